@@ -0,0 +1,36 @@
+package net.learning.ExceptionHandlerUtility.benchmark;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Entry point of the benchmark jar. Accepts the regular JMH command line and attaches the GC profiler unless it was
+ * requested explicitly, so every run reports allocation rate next to throughput.
+ */
+public class BenchmarkMain {
+
+    private BenchmarkMain() {
+        // No-OP
+    }
+
+    public static void main(String[] args) throws Exception {
+        CommandLineOptions commandLineOptions = new CommandLineOptions(args);
+        if (commandLineOptions.shouldHelp() || commandLineOptions.shouldList()
+                || commandLineOptions.shouldListWithParams() || commandLineOptions.shouldListProfilers()
+                || commandLineOptions.shouldListResultFormats()) {
+            org.openjdk.jmh.Main.main(args);
+            return;
+        }
+        ChainedOptionsBuilder options = new OptionsBuilder().parent(commandLineOptions);
+        boolean gcProfilerRequested = commandLineOptions.getProfilers().stream()
+                .anyMatch(profiler -> "gc".equals(profiler.getKlass())
+                        || GCProfiler.class.getName().equals(profiler.getKlass()));
+        if (!gcProfilerRequested) {
+            options.addProfiler(GCProfiler.class);
+        }
+        new Runner(options.build()).run();
+    }
+}
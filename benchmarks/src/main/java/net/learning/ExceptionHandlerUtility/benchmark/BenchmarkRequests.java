@@ -0,0 +1,87 @@
+package net.learning.ExceptionHandlerUtility.benchmark;
+
+import org.springframework.core.MethodParameter;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import javax.servlet.ServletOutputStream;
+import javax.servlet.WriteListener;
+import javax.servlet.http.HttpServletResponseWrapper;
+
+/**
+ * Offline request fixtures shared by the benchmarks
+ */
+final class BenchmarkRequests {
+
+    private BenchmarkRequests() {
+        // No-OP
+    }
+
+    /**
+     * @return a mocked request/response pair wrapped the same way Spring MVC passes it to the handler. Bodies
+     *         written to the response are discarded so it can be reused across invocations.
+     */
+    static ServletWebRequest servletWebRequest(String method, String requestUri) {
+        return new ServletWebRequest(new MockHttpServletRequest(method, requestUri),
+                new DiscardingResponse(new MockHttpServletResponse()));
+    }
+
+    /**
+     * @return a method parameter usable for exceptions that describe a controller argument
+     */
+    static MethodParameter headerParameter() {
+        try {
+            return new MethodParameter(BenchmarkRequests.class.getDeclaredMethod("header", String.class), 0);
+        } catch (NoSuchMethodException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    @SuppressWarnings("unused")
+    private static void header(String correlationId) {
+        // signature only
+    }
+
+    /**
+     * Response that never commits and drops everything written to it
+     */
+    static final class DiscardingResponse extends HttpServletResponseWrapper {
+
+        static final ServletOutputStream DISCARDING_STREAM = new ServletOutputStream() {
+            @Override
+            public boolean isReady() {
+                return true;
+            }
+
+            @Override
+            public void setWriteListener(WriteListener writeListener) {
+                // NO-OP
+            }
+
+            @Override
+            public void write(int b) {
+                // NO-OP
+            }
+
+            @Override
+            public void write(byte[] b, int off, int len) {
+                // NO-OP
+            }
+        };
+
+        DiscardingResponse(MockHttpServletResponse response) {
+            super(response);
+        }
+
+        @Override
+        public ServletOutputStream getOutputStream() {
+            return DISCARDING_STREAM;
+        }
+
+        @Override
+        public boolean isCommitted() {
+            return false;
+        }
+    }
+}
@@ -0,0 +1,96 @@
+package net.learning.ExceptionHandlerUtility.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import net.learning.ExceptionHandlerUtility.client.ErrorResponseDecoder;
+import net.learning.ExceptionHandlerUtility.handler.GlobalExceptionHandler;
+import net.learning.ExceptionHandlerUtility.model.ErrorResponse;
+import net.learning.ExceptionHandlerUtility.utils.ErrorResponseFormats;
+import net.learning.ExceptionHandlerUtility.utils.ErrorResponseWriter;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.MediaType;
+import org.springframework.validation.BindException;
+import org.springframework.validation.FieldError;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Encode and decode time of a handleBindException ErrorResponse in JSON, CBOR and Smile. The payload size of each
+ * combination is reported next to the timings as the {@code payloadBytes} secondary result.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class BinaryEncodingBenchmark {
+
+    @Param({ "json", "cbor", "smile" })
+    public String format;
+
+    @Param({ "100", "10000" })
+    public int fieldErrors;
+
+    private final ErrorResponseDecoder decoder = new ErrorResponseDecoder();
+
+    private ErrorResponse errorResponse;
+    private ErrorResponseWriter writer;
+    private MediaType mediaType;
+    private ByteArrayOutputStream outputStream;
+    private byte[] encoded;
+
+    @Setup
+    public void setUp() throws IOException {
+        BindException bindException = new BindException(new Object(), "importRequest");
+        for (int i = 0; i < fieldErrors; i++) {
+            bindException.addError(new FieldError("importRequest", "records[" + i + "].name", "value-" + i,
+                    false, null, null, "must not be blank"));
+        }
+        errorResponse = new GlobalExceptionHandler()
+                .handleBindException(bindException, BenchmarkRequests.servletWebRequest("POST", "/sample/import"))
+                .getBody();
+        switch (format) {
+            case "cbor":
+                writer = new ErrorResponseWriter(ErrorResponseFormats.cborMapper());
+                mediaType = ErrorResponseFormats.APPLICATION_CBOR;
+                break;
+            case "smile":
+                writer = new ErrorResponseWriter(ErrorResponseFormats.smileMapper());
+                mediaType = ErrorResponseFormats.APPLICATION_SMILE;
+                break;
+            default:
+                writer = new ErrorResponseWriter(new ObjectMapper());
+                mediaType = MediaType.APPLICATION_JSON;
+        }
+        outputStream = new ByteArrayOutputStream();
+        writer.write(errorResponse, outputStream);
+        encoded = outputStream.toByteArray();
+    }
+
+    @Benchmark
+    public byte[] encode(PayloadSize payloadSize) throws IOException {
+        outputStream.reset();
+        writer.write(errorResponse, outputStream);
+        byte[] bytes = outputStream.toByteArray();
+        payloadSize.payloadBytes = bytes.length;
+        return bytes;
+    }
+
+    @Benchmark
+    public ErrorResponse decode(PayloadSize payloadSize) throws IOException {
+        payloadSize.payloadBytes = encoded.length;
+        return decoder.decode(encoded, mediaType);
+    }
+
+    /**
+     * Size of the encoded payload, reported as is rather than per time unit
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class PayloadSize {
+
+        public long payloadBytes;
+    }
+}
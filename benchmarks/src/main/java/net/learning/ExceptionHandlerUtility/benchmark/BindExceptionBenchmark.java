@@ -0,0 +1,46 @@
+package net.learning.ExceptionHandlerUtility.benchmark;
+
+import net.learning.ExceptionHandlerUtility.handler.GlobalExceptionHandler;
+import net.learning.ExceptionHandlerUtility.model.ErrorResponse;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.BindException;
+import org.springframework.validation.FieldError;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Throughput of {@link GlobalExceptionHandler#handleBindException} for growing numbers of field errors
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class BindExceptionBenchmark {
+
+    @Param({ "1", "100", "10000" })
+    public int fieldErrors;
+
+    private final GlobalExceptionHandler handler = new GlobalExceptionHandler();
+
+    private ServletWebRequest servletWebRequest;
+    private BindException bindException;
+
+    @Setup
+    public void setUp() {
+        servletWebRequest = BenchmarkRequests.servletWebRequest("POST", "/sample/import");
+        bindException = new BindException(new Object(), "importRequest");
+        for (int i = 0; i < fieldErrors; i++) {
+            bindException.addError(new FieldError("importRequest", "records[" + i + "].name", "value-" + i,
+                    false, null, null, "must not be blank"));
+        }
+    }
+
+    @Benchmark
+    public ResponseEntity<ErrorResponse> handleBindException() {
+        return handler.handleBindException(bindException, servletWebRequest);
+    }
+}
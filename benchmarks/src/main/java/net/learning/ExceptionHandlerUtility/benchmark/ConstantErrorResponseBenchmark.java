@@ -0,0 +1,58 @@
+package net.learning.ExceptionHandlerUtility.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import net.learning.ExceptionHandlerUtility.handler.ErrorResponseTemplate;
+import net.learning.ExceptionHandlerUtility.model.ErrorResponse;
+import net.learning.ExceptionHandlerUtility.model.Errors;
+import net.learning.ExceptionHandlerUtility.utils.Constants;
+import net.learning.ExceptionHandlerUtility.utils.ExceptionHandlerHelperUtil;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Rendering a constant-message 401 body: pre-encoded template versus building the ErrorResponse graph and
+ * serializing it with Jackson databinding
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ConstantErrorResponseBenchmark {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private final ErrorResponseTemplate template = ErrorResponseTemplate.of(HttpStatus.UNAUTHORIZED,
+            List.of(Errors.builder().errorMessage(Constants.UNAUTHORIZED_ERROR_MESSAGE).build()));
+
+    private ServletWebRequest servletWebRequest;
+
+    @Setup
+    public void setUp() {
+        servletWebRequest = BenchmarkRequests.servletWebRequest("POST", "/auth/login");
+    }
+
+    @Benchmark
+    public boolean template() {
+        return template.write(servletWebRequest, HttpMethod.POST, servletWebRequest.getRequest().getRequestURI(),
+                ExceptionHandlerHelperUtil.currentTimeStamp());
+    }
+
+    @Benchmark
+    public void databinding() throws IOException {
+        MAPPER.writeValue(BenchmarkRequests.DiscardingResponse.DISCARDING_STREAM, ErrorResponse.builder()
+                .method(HttpMethod.POST)
+                .requestUri(servletWebRequest.getRequest().getRequestURI())
+                .statusCode(HttpStatus.UNAUTHORIZED.name())
+                .timestamp(ExceptionHandlerHelperUtil.currentTimeStamp())
+                .errors(List.of(Errors.builder().errorMessage(Constants.UNAUTHORIZED_ERROR_MESSAGE).build()))
+                .build());
+    }
+}
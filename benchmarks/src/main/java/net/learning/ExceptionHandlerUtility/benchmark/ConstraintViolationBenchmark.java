@@ -0,0 +1,49 @@
+package net.learning.ExceptionHandlerUtility.benchmark;
+
+import net.learning.ExceptionHandlerUtility.handler.GlobalExceptionHandler;
+import net.learning.ExceptionHandlerUtility.model.ErrorResponse;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import javax.validation.ConstraintViolation;
+import javax.validation.ConstraintViolationException;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Throughput of the {@link ConstraintViolationException} branch of
+ * {@link GlobalExceptionHandler#handleRequestException} for growing numbers of violations
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ConstraintViolationBenchmark {
+
+    @Param({ "1", "100", "10000" })
+    public int violations;
+
+    private final GlobalExceptionHandler handler = new GlobalExceptionHandler();
+
+    private ServletWebRequest servletWebRequest;
+    private ConstraintViolationException constraintViolationException;
+
+    @Setup
+    public void setUp() {
+        servletWebRequest = BenchmarkRequests.servletWebRequest("GET", "/sample/search");
+        Set<ConstraintViolation<?>> constraintViolations = new HashSet<>();
+        for (int i = 0; i < violations; i++) {
+            constraintViolations.add(new StubConstraintViolation("search.ids[" + i + "]: must be greater than 0"));
+        }
+        constraintViolationException = new ConstraintViolationException(constraintViolations);
+    }
+
+    @Benchmark
+    public ResponseEntity<ErrorResponse> handleConstraintViolationException() {
+        return handler.handleRequestException(constraintViolationException, servletWebRequest);
+    }
+}
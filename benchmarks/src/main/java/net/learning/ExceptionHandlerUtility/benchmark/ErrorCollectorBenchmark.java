@@ -0,0 +1,60 @@
+package net.learning.ExceptionHandlerUtility.benchmark;
+
+import net.learning.ExceptionHandlerUtility.exceptions.ValidationException;
+import net.learning.ExceptionHandlerUtility.handler.GlobalExceptionHandler;
+import net.learning.ExceptionHandlerUtility.model.ErrorCollector;
+import net.learning.ExceptionHandlerUtility.model.ErrorResponse;
+import net.learning.ExceptionHandlerUtility.model.Errors;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Reporting every record of a bulk request as invalid: one {@link ErrorCollector} thrown once, against one
+ * ValidationException thrown and caught per record
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ErrorCollectorBenchmark {
+
+    @Param({ "100", "10000" })
+    public int records;
+
+    private final GlobalExceptionHandler handler = new GlobalExceptionHandler();
+    private ServletWebRequest servletWebRequest;
+
+    @Setup
+    public void setUp() {
+        servletWebRequest = BenchmarkRequests.servletWebRequest("POST", "/sample/import");
+    }
+
+    @Benchmark
+    public ResponseEntity<ErrorResponse> collector() {
+        ErrorCollector collector = new ErrorCollector(records, ErrorCollector.UNLIMITED);
+        for (int i = 0; i < records; i++) {
+            collector.add(i, "name must not be blank");
+        }
+        return handler.handleValidationException(collector.toValidationException(), servletWebRequest);
+    }
+
+    @Benchmark
+    public ResponseEntity<ErrorResponse> throwPerRecord() {
+        List<Errors> errors = new ArrayList<>();
+        for (int i = 0; i < records; i++) {
+            try {
+                throw new ValidationException(List.of(Errors.builder().errorMessage("name must not be blank").build()));
+            } catch (ValidationException e) {
+                errors.addAll(e.getErrorMessage());
+            }
+        }
+        return handler.handleValidationException(new ValidationException(errors), servletWebRequest);
+    }
+}
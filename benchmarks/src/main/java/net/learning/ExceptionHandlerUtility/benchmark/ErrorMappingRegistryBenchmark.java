@@ -0,0 +1,58 @@
+package net.learning.ExceptionHandlerUtility.benchmark;
+
+import net.learning.ExceptionHandlerUtility.mapping.ErrorMapping;
+import net.learning.ExceptionHandlerUtility.mapping.ErrorMappingRegistry;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.HttpStatus;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.NoSuchFileException;
+import java.util.ConcurrentModificationException;
+import java.util.NoSuchElementException;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Lookup cost of {@link ErrorMappingRegistry#resolve} for an exact match and for a class several levels below its
+ * mapped superclass
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ErrorMappingRegistryBenchmark {
+
+    private final ErrorMappingRegistry registry = new ErrorMappingRegistry();
+
+    @Setup
+    public void setUp() {
+        registry.register(IOException.class, HttpStatus.BAD_GATEWAY, "I/O failure")
+                .register(UncheckedIOException.class, HttpStatus.BAD_GATEWAY, "I/O failure")
+                .register(IllegalArgumentException.class, HttpStatus.BAD_REQUEST, Throwable::getMessage)
+                .register(IllegalStateException.class, HttpStatus.CONFLICT, Throwable::getMessage)
+                .register(UnsupportedOperationException.class, HttpStatus.NOT_IMPLEMENTED, "Not supported")
+                .register(NoSuchElementException.class, HttpStatus.NOT_FOUND, Throwable::getMessage)
+                .register(ConcurrentModificationException.class, HttpStatus.CONFLICT, "Concurrent update")
+                .register(CancellationException.class, HttpStatus.SERVICE_UNAVAILABLE, "Cancelled")
+                .register(RejectedExecutionException.class, HttpStatus.SERVICE_UNAVAILABLE, "Overloaded");
+    }
+
+    @Benchmark
+    public ErrorMapping exactMatch() {
+        return registry.resolve(IllegalStateException.class);
+    }
+
+    @Benchmark
+    public ErrorMapping inheritedMatch() {
+        return registry.resolve(NoSuchFileException.class);
+    }
+
+    @Benchmark
+    public ErrorMapping unmapped() {
+        return registry.resolve(ArithmeticException.class);
+    }
+}
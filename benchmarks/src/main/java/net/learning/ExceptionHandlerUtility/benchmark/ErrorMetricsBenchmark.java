@@ -0,0 +1,38 @@
+package net.learning.ExceptionHandlerUtility.benchmark;
+
+import net.learning.ExceptionHandlerUtility.exceptions.DataNotFoundException;
+import net.learning.ExceptionHandlerUtility.metrics.InProcessErrorMetrics;
+import net.learning.ExceptionHandlerUtility.model.Errors;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.HttpStatus;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Recording cost of {@link InProcessErrorMetrics} from a single thread and from 8 threads hitting the same series
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ErrorMetricsBenchmark {
+
+    private static final List<Errors> ERRORS = List.of(Errors.builder().errorMessage("order not found").build());
+
+    private final InProcessErrorMetrics metrics = new InProcessErrorMetrics();
+    private final DataNotFoundException exception = new DataNotFoundException(ERRORS);
+
+    @Benchmark
+    public void record() {
+        metrics.onErrorHandled(exception, HttpStatus.NOT_FOUND, "/orders/{id}", ERRORS, 1_500);
+    }
+
+    @Benchmark
+    @Threads(8)
+    public void recordContended() {
+        metrics.onErrorHandled(exception, HttpStatus.NOT_FOUND, "/orders/{id}", ERRORS, 1_500);
+    }
+}
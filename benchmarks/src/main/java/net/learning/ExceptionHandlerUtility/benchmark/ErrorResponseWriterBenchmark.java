@@ -0,0 +1,59 @@
+package net.learning.ExceptionHandlerUtility.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import net.learning.ExceptionHandlerUtility.model.ErrorResponse;
+import net.learning.ExceptionHandlerUtility.model.Errors;
+import net.learning.ExceptionHandlerUtility.utils.ErrorResponseWriter;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Serializing an ErrorResponse with the streaming {@link ErrorResponseWriter} versus ObjectMapper databinding
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ErrorResponseWriterBenchmark {
+
+    @Param({ "1", "100", "10000" })
+    public int errorCount;
+
+    private final ObjectMapper mapper = new ObjectMapper();
+    private final ErrorResponseWriter writer = new ErrorResponseWriter(mapper);
+
+    private ErrorResponse errorResponse;
+
+    @Setup
+    public void setUp() {
+        List<Errors> errors = new ArrayList<>(errorCount);
+        for (int i = 0; i < errorCount; i++) {
+            errors.add(Errors.builder().errorMessage("records[" + i + "].name value:null is not valid").build());
+        }
+        errorResponse = ErrorResponse.builder()
+                .method(HttpMethod.POST)
+                .requestUri("/sample/import")
+                .statusCode(HttpStatus.BAD_REQUEST.name())
+                .timestamp("2022-06-16T09:24:15")
+                .errors(errors)
+                .build();
+    }
+
+    @Benchmark
+    public void streamingWriter() throws IOException {
+        writer.write(errorResponse, BenchmarkRequests.DiscardingResponse.DISCARDING_STREAM);
+    }
+
+    @Benchmark
+    public void databinding() throws IOException {
+        mapper.writeValue(BenchmarkRequests.DiscardingResponse.DISCARDING_STREAM, errorResponse);
+    }
+}
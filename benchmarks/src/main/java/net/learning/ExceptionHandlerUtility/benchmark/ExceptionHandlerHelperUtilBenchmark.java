@@ -0,0 +1,57 @@
+package net.learning.ExceptionHandlerUtility.benchmark;
+
+import net.learning.ExceptionHandlerUtility.model.Errors;
+import net.learning.ExceptionHandlerUtility.utils.ExceptionHandlerHelperUtil;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.validation.FieldError;
+import org.springframework.validation.ObjectError;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Throughput of {@link ExceptionHandlerHelperUtil#createErrorListFromValidationErrors} on its own
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ExceptionHandlerHelperUtilBenchmark {
+
+    /**
+     * plain: object errors with a plain message, field: field errors, json: messages holding an encoded Errors
+     */
+    @Param({ "plain", "field", "json" })
+    public String messageKind;
+
+    @Param({ "1", "100" })
+    public int errorCount;
+
+    private List<ObjectError> objectErrors;
+
+    @Setup
+    public void setUp() {
+        objectErrors = new ArrayList<>(errorCount);
+        for (int i = 0; i < errorCount; i++) {
+            switch (messageKind) {
+                case "field":
+                    objectErrors.add(new FieldError("request", "field" + i, "value" + i, false, null, null,
+                            "must not be blank"));
+                    break;
+                case "json":
+                    objectErrors.add(new ObjectError("request", "{\"errorMessage\":\"code " + (i % 8) + " is invalid\"}"));
+                    break;
+                default:
+                    objectErrors.add(new ObjectError("request", "request is invalid " + i));
+            }
+        }
+    }
+
+    @Benchmark
+    public List<Errors> createErrorListFromValidationErrors() {
+        return ExceptionHandlerHelperUtil.createErrorListFromValidationErrors(objectErrors);
+    }
+}
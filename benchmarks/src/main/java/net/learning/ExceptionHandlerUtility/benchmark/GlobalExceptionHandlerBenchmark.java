@@ -0,0 +1,125 @@
+package net.learning.ExceptionHandlerUtility.benchmark;
+
+import net.learning.ExceptionHandlerUtility.exceptions.*;
+import net.learning.ExceptionHandlerUtility.handler.GlobalExceptionHandler;
+import net.learning.ExceptionHandlerUtility.model.ErrorResponse;
+import net.learning.ExceptionHandlerUtility.model.Errors;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.mock.http.MockHttpInputMessage;
+import org.springframework.web.HttpMediaTypeNotSupportedException;
+import org.springframework.web.bind.MissingRequestHeaderException;
+import org.springframework.web.bind.MissingServletRequestParameterException;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.servlet.NoHandlerFoundException;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Throughput of every single-exception handler of {@link GlobalExceptionHandler}. Exceptions are created once so
+ * only the handler cost is measured; see {@link LightweightExceptionBenchmark} for the throw cost.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class GlobalExceptionHandlerBenchmark {
+
+    private static final List<Errors> ERRORS = List.of(Errors.builder().errorMessage("id must be positive").build());
+
+    private final GlobalExceptionHandler handler = new GlobalExceptionHandler();
+
+    private ServletWebRequest servletWebRequest;
+    private ValidationException validationException;
+    private DataNotFoundException dataNotFoundException;
+    private ServerException serverException;
+    private NoHandlerFoundException noHandlerFoundException;
+    private MissingServletRequestParameterException missingParameterException;
+    private HttpMediaTypeNotSupportedException mediaTypeException;
+    private MissingRequestHeaderException missingHeaderException;
+    private HttpMessageNotReadableException notReadableException;
+    private ResourceAccessException resourceAccessException;
+
+    @Setup
+    public void setUp() {
+        servletWebRequest = BenchmarkRequests.servletWebRequest("GET", "/sample/getData");
+        validationException = new ValidationException(ERRORS);
+        dataNotFoundException = new DataNotFoundException(ERRORS);
+        serverException = new ServerException(ERRORS);
+        noHandlerFoundException = new NoHandlerFoundException("GET", "/sample/unknown", new HttpHeaders());
+        missingParameterException = new MissingServletRequestParameterException("id", "Long");
+        mediaTypeException = new HttpMediaTypeNotSupportedException("Content type 'text/plain' not supported");
+        missingHeaderException = new MissingRequestHeaderException("X-Correlation-Id",
+                BenchmarkRequests.headerParameter());
+        notReadableException = new HttpMessageNotReadableException(
+                "JSON parse error: Unexpected character ('}' (code 125)): was expecting double-quote",
+                new MockHttpInputMessage(new byte[0]));
+        resourceAccessException = new ResourceAccessException("I/O error on GET request: Connection refused");
+    }
+
+    @Benchmark
+    public ResponseEntity<ErrorResponse> validationException() {
+        return handler.handleValidationException(validationException, servletWebRequest);
+    }
+
+    @Benchmark
+    public ResponseEntity<ErrorResponse> dataNotFoundException() {
+        return handler.handleDataNotFoundException(dataNotFoundException, servletWebRequest);
+    }
+
+    @Benchmark
+    public ResponseEntity<ErrorResponse> serverException() {
+        return handler.handleServerException(serverException, servletWebRequest);
+    }
+
+    @Benchmark
+    public ResponseEntity<ErrorResponse> noHandlerFoundException() {
+        return handler.handleAccessDeniedException(noHandlerFoundException, servletWebRequest);
+    }
+
+    @Benchmark
+    public ResponseEntity<ErrorResponse> unAuthorizedException() {
+        return handler.handleUnAuthorizedException(UnAuthorizedException.shared(), servletWebRequest);
+    }
+
+    @Benchmark
+    public ResponseEntity<ErrorResponse> accessDeniedException() {
+        return handler.handleAccessDeniedException(AccessDeniedException.shared(), servletWebRequest);
+    }
+
+    @Benchmark
+    public ResponseEntity<ErrorResponse> timeOutException() {
+        return handler.handleException(TimeOutException.shared(), servletWebRequest);
+    }
+
+    @Benchmark
+    public ResponseEntity<ErrorResponse> missingServletRequestParameterException() {
+        return handler.handleRequestException(missingParameterException, servletWebRequest);
+    }
+
+    @Benchmark
+    public ResponseEntity<ErrorResponse> httpMediaTypeException() {
+        return handler.handleRequestException(mediaTypeException, servletWebRequest);
+    }
+
+    @Benchmark
+    public ResponseEntity<ErrorResponse> missingRequestHeaderException() {
+        return handler.handleRequestException(missingHeaderException, servletWebRequest);
+    }
+
+    @Benchmark
+    public ResponseEntity<ErrorResponse> httpMessageNotReadableException() {
+        return handler.handleRequestException(notReadableException, servletWebRequest);
+    }
+
+    @Benchmark
+    public ResponseEntity<ErrorResponse> resourceAccessException() {
+        return handler.handleResourceAccessException(resourceAccessException, servletWebRequest);
+    }
+}
@@ -0,0 +1,83 @@
+package net.learning.ExceptionHandlerUtility.benchmark;
+
+import net.learning.ExceptionHandlerUtility.exceptions.UnAuthorizedException;
+import net.learning.ExceptionHandlerUtility.exceptions.ValidationException;
+import net.learning.ExceptionHandlerUtility.handler.GlobalExceptionHandler;
+import net.learning.ExceptionHandlerUtility.model.ErrorResponse;
+import net.learning.ExceptionHandlerUtility.model.Errors;
+import net.learning.ExceptionHandlerUtility.utils.LightweightExceptions;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Throw-and-handle cost of custom exceptions with and without stack trace capture. The exception is thrown
+ * {@code depth} frames below the catch site to mimic a service call stack.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class LightweightExceptionBenchmark {
+
+    private static final List<Errors> ERRORS = List.of(Errors.builder().errorMessage("name must not be blank").build());
+
+    @Param({ "false", "true" })
+    public boolean lightweight;
+
+    @Param({ "16", "128" })
+    public int depth;
+
+    private final GlobalExceptionHandler handler = new GlobalExceptionHandler();
+    private ServletWebRequest servletWebRequest;
+
+    @Setup
+    public void setUp() {
+        LightweightExceptions.setLightweight(lightweight);
+        servletWebRequest = BenchmarkRequests.servletWebRequest("POST", "/sample/data");
+    }
+
+    @TearDown
+    public void tearDown() {
+        LightweightExceptions.setLightweight(false);
+    }
+
+    @Benchmark
+    public ResponseEntity<ErrorResponse> throwAndHandleValidationException() {
+        try {
+            throwValidationAt(depth);
+            return null;
+        } catch (ValidationException validationException) {
+            return handler.handleValidationException(validationException, servletWebRequest);
+        }
+    }
+
+    @Benchmark
+    public ResponseEntity<ErrorResponse> throwAndHandleSharedUnAuthorizedException() {
+        try {
+            throwSharedUnAuthorizedAt(depth);
+            return null;
+        } catch (UnAuthorizedException unAuthorizedException) {
+            return handler.handleUnAuthorizedException(unAuthorizedException, servletWebRequest);
+        }
+    }
+
+    private static void throwValidationAt(int remaining) {
+        if (remaining == 0) {
+            throw new ValidationException(ERRORS);
+        }
+        throwValidationAt(remaining - 1);
+    }
+
+    private static void throwSharedUnAuthorizedAt(int remaining) {
+        if (remaining == 0) {
+            throw UnAuthorizedException.shared();
+        }
+        throwSharedUnAuthorizedAt(remaining - 1);
+    }
+}
@@ -0,0 +1,46 @@
+package net.learning.ExceptionHandlerUtility.benchmark;
+
+import net.learning.ExceptionHandlerUtility.routing.RequestMappingIndex;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Lookup cost of {@link RequestMappingIndex#matches} over 200 mappings for a mapped path, a path under a path
+ * variable and a scanner path that is rejected
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class RequestMappingIndexBenchmark {
+
+    private final RequestMappingIndex index = new RequestMappingIndex();
+
+    @Setup
+    public void setUp() {
+        for (int i = 0; i < 50; i++) {
+            index.add("/api/v1/resource" + i)
+                    .add("/api/v1/resource" + i + "/{id}")
+                    .add("/api/v1/resource" + i + "/{id}/items")
+                    .add("/api/v1/resource" + i + "/{id}/items/{itemId}");
+        }
+    }
+
+    @Benchmark
+    public boolean literal() {
+        return index.matches("/api/v1/resource42");
+    }
+
+    @Benchmark
+    public boolean pathVariables() {
+        return index.matches("/api/v1/resource42/1234/items/5678");
+    }
+
+    @Benchmark
+    public boolean unmapped() {
+        return index.matches("/wp-admin/setup-config.php");
+    }
+}
@@ -0,0 +1,81 @@
+package net.learning.ExceptionHandlerUtility.benchmark;
+
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.SpringBootConfiguration;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cold start of a servlet application with an embedded Tomcat, with the library enabled and with
+ * {@code exception-handler.enabled=false}. Every fork starts a fresh JVM and refreshes the context once, like a
+ * scale-to-zero instance does. Besides the refresh time, {@code retainedHeapBytes} reports the heap in use after a GC
+ * with the context running.
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 0)
+@Measurement(iterations = 1)
+@Fork(10)
+@State(Scope.Benchmark)
+public class StartupBenchmark {
+
+    @Param({ "true", "false" })
+    public boolean enabled;
+
+    private ConfigurableApplicationContext context;
+
+    @Benchmark
+    public ConfigurableApplicationContext refresh(Footprint footprint) {
+        context = new SpringApplicationBuilder(StartupApplication.class)
+                .web(WebApplicationType.SERVLET)
+                .logStartupInfo(false)
+                .properties("server.port=0", "spring.main.banner-mode=off", "logging.level.root=WARN",
+                        "exception-handler.enabled=" + enabled)
+                .run();
+        footprint.retainedHeapBytes = retainedHeap();
+        return context;
+    }
+
+    @TearDown(Level.Iteration)
+    public void close() {
+        if (context != null) {
+            context.close();
+            context = null;
+        }
+    }
+
+    private static long retainedHeap() {
+        MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+        System.gc();
+        return memory.getHeapMemoryUsage().getUsed();
+    }
+
+    /**
+     * Heap in use after startup, reported next to the refresh time
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Footprint {
+
+        public long retainedHeapBytes;
+    }
+
+    @SpringBootConfiguration
+    @EnableAutoConfiguration
+    @RestController
+    static class StartupApplication {
+
+        @GetMapping("/orders")
+        public String orders() {
+            return "[]";
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package net.learning.ExceptionHandlerUtility.benchmark;
+
+import javax.validation.ConstraintViolation;
+import javax.validation.Path;
+import javax.validation.metadata.ConstraintDescriptor;
+
+/**
+ * Minimal {@link ConstraintViolation} carrying only a message, which is all the handler reads
+ */
+final class StubConstraintViolation implements ConstraintViolation<Object> {
+
+    private final String message;
+
+    StubConstraintViolation(String message) {
+        this.message = message;
+    }
+
+    @Override
+    public String getMessage() {
+        return message;
+    }
+
+    @Override
+    public String getMessageTemplate() {
+        return message;
+    }
+
+    @Override
+    public Object getRootBean() {
+        return null;
+    }
+
+    @Override
+    public Class<Object> getRootBeanClass() {
+        return Object.class;
+    }
+
+    @Override
+    public Object getLeafBean() {
+        return null;
+    }
+
+    @Override
+    public Object[] getExecutableParameters() {
+        return new Object[0];
+    }
+
+    @Override
+    public Object getExecutableReturnValue() {
+        return null;
+    }
+
+    @Override
+    public Path getPropertyPath() {
+        return null;
+    }
+
+    @Override
+    public Object getInvalidValue() {
+        return null;
+    }
+
+    @Override
+    public ConstraintDescriptor<?> getConstraintDescriptor() {
+        return null;
+    }
+
+    @Override
+    public <U> U unwrap(Class<U> type) {
+        throw new UnsupportedOperationException();
+    }
+}
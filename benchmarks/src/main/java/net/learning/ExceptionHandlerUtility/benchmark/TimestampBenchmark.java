@@ -0,0 +1,39 @@
+package net.learning.ExceptionHandlerUtility.benchmark;
+
+import net.learning.ExceptionHandlerUtility.utils.Constants;
+import net.learning.ExceptionHandlerUtility.utils.ExceptionHandlerHelperUtil;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Throughput of {@link ExceptionHandlerHelperUtil#currentTimeStamp()}, which every handler calls once per error,
+ * against the previous implementation that parsed the pattern and formatted the time on every call
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class TimestampBenchmark {
+
+    @Benchmark
+    public String currentTimeStamp() {
+        return ExceptionHandlerHelperUtil.currentTimeStamp();
+    }
+
+    @Benchmark
+    public String formatPerCall() {
+        return DateTimeFormatter.ofPattern(Constants.TIME_STAMP_FORMAT).format(LocalDateTime.now(ZoneOffset.UTC));
+    }
+
+    @Benchmark
+    @Threads(4)
+    public String currentTimeStampContended() {
+        return ExceptionHandlerHelperUtil.currentTimeStamp();
+    }
+}
@@ -0,0 +1,47 @@
+package net.learning.ExceptionHandlerUtility.loadtest;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Latencies of one scenario, recorded into a preallocated array so that recording does not disturb the measurement.
+ * Samples beyond the capacity are counted but not kept.
+ */
+final class LatencyRecorder {
+
+    private final long[] latencies;
+    private final AtomicInteger size = new AtomicInteger();
+    private final LongAdder unexpected = new LongAdder();
+
+    LatencyRecorder(int capacity) {
+        this.latencies = new long[capacity];
+    }
+
+    void record(long latencyNanos, boolean expected) {
+        int index = size.getAndIncrement();
+        if (index < latencies.length) {
+            latencies[index] = latencyNanos;
+        }
+        if (!expected) {
+            unexpected.increment();
+        }
+    }
+
+    int count() {
+        return size.get();
+    }
+
+    long unexpected() {
+        return unexpected.sum();
+    }
+
+    /**
+     * @return the kept latencies in ascending order; only called once recording has finished
+     */
+    long[] sorted() {
+        long[] sorted = Arrays.copyOf(latencies, Math.min(size.get(), latencies.length));
+        Arrays.sort(sorted);
+        return sorted;
+    }
+}
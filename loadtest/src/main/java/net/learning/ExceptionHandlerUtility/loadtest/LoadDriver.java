@@ -0,0 +1,174 @@
+package net.learning.ExceptionHandlerUtility.loadtest;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Open-loop load generator. Requests are scheduled at a fixed total rate, independent of how fast the server answers,
+ * and sent by {@code concurrency} client threads. Each request's latency is taken from its scheduled time, so a server
+ * that falls behind shows up in the percentiles instead of silently lowering the rate. Scenarios are interleaved by
+ * weight in a fixed pseudo-random order. Requests scheduled during the warmup are sent but not recorded.
+ */
+public class LoadDriver {
+
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(10);
+
+    private final int ratePerSecond;
+    private final int concurrency;
+    private final Duration warmup;
+    private final Duration duration;
+    private final HttpClient client;
+
+    /**
+     * @param ratePerSecond
+     *            requests scheduled per second over all scenarios
+     * @param concurrency
+     *            client threads sending the requests
+     * @param warmup
+     *            time under load before recording starts
+     * @param duration
+     *            recorded time under load
+     */
+    public LoadDriver(int ratePerSecond, int concurrency, Duration warmup, Duration duration) {
+        if (ratePerSecond < 1 || concurrency < 1) {
+            throw new IllegalArgumentException("ratePerSecond and concurrency must be positive");
+        }
+        this.ratePerSecond = ratePerSecond;
+        this.concurrency = concurrency;
+        this.warmup = warmup;
+        this.duration = duration;
+        this.client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(REQUEST_TIMEOUT)
+                .build();
+    }
+
+    /**
+     * Drives the scenarios against the service and waits for the last response
+     *
+     * @param baseUri
+     *            e.g. {@code http://localhost:8080}
+     * @param scenarios
+     *            the traffic mix
+     *
+     * @return the measurements of the recorded period
+     *
+     * @throws InterruptedException
+     *             when interrupted while driving the load
+     */
+    public LoadReport run(URI baseUri, List<Scenario> scenarios) throws InterruptedException {
+        List<HttpRequest> requests = new ArrayList<>();
+        List<LatencyRecorder> recorders = new ArrayList<>();
+        int capacity = (int) Math.min(Integer.MAX_VALUE - 8, ratePerSecond * (duration.toMillis() / 1000 + 1));
+        for (Scenario scenario : scenarios) {
+            requests.add(request(baseUri, scenario));
+            recorders.add(new LatencyRecorder(capacity));
+        }
+        int[] schedule = schedule(scenarios);
+
+        ExecutorService senders = Executors.newFixedThreadPool(concurrency);
+        long intervalNanos = TimeUnit.SECONDS.toNanos(1) / ratePerSecond;
+        long start = System.nanoTime();
+        long recordFrom = start + warmup.toNanos();
+        long end = recordFrom + duration.toNanos();
+        try {
+            for (long i = 0; ; i++) {
+                long scheduled = start + i * intervalNanos;
+                if (scheduled - end >= 0) {
+                    break;
+                }
+                for (long wait = scheduled - System.nanoTime(); wait > 0; wait = scheduled - System.nanoTime()) {
+                    LockSupport.parkNanos(wait);
+                }
+                int index = schedule[(int) (i % schedule.length)];
+                Scenario scenario = scenarios.get(index);
+                HttpRequest request = requests.get(index);
+                LatencyRecorder recorder = scheduled - recordFrom >= 0 ? recorders.get(index) : null;
+                senders.execute(() -> send(request, scenario, recorder, scheduled));
+            }
+        } finally {
+            senders.shutdown();
+        }
+        if (!senders.awaitTermination(1, TimeUnit.MINUTES)) {
+            senders.shutdownNow();
+        }
+
+        LoadReport report = new LoadReport(duration);
+        for (int i = 0; i < scenarios.size(); i++) {
+            report.add(scenarios.get(i), recorders.get(i));
+        }
+        return report;
+    }
+
+    private void send(HttpRequest request, Scenario scenario, LatencyRecorder recorder, long scheduled) {
+        boolean expected;
+        try {
+            HttpResponse<byte[]> response = client.send(request, HttpResponse.BodyHandlers.ofByteArray());
+            expected = response.statusCode() == scenario.getExpectedStatus();
+        } catch (IOException e) {
+            expected = false;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return;
+        }
+        if (recorder != null) {
+            recorder.record(System.nanoTime() - scheduled, expected);
+        }
+    }
+
+    private static HttpRequest request(URI baseUri, Scenario scenario) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(baseUri.resolve(scenario.getPath()))
+                .timeout(REQUEST_TIMEOUT)
+                .header("Accept", "application/json");
+        if (scenario.getBody() != null) {
+            builder.header("Content-Type", "application/json")
+                    .method(scenario.getMethod(), HttpRequest.BodyPublishers.ofString(scenario.getBody()));
+        } else {
+            builder.method(scenario.getMethod(), HttpRequest.BodyPublishers.noBody());
+        }
+        return builder.build();
+    }
+
+    /**
+     * @return scenario indexes, each repeated by its weight, in a fixed shuffled order
+     */
+    private static int[] schedule(List<Scenario> scenarios) {
+        List<Integer> slots = new ArrayList<>();
+        for (int i = 0; i < scenarios.size(); i++) {
+            for (int j = 0; j < scenarios.get(i).getWeight(); j++) {
+                slots.add(i);
+            }
+        }
+        Collections.shuffle(slots, new Random(42));
+        return slots.stream().mapToInt(Integer::intValue).toArray();
+    }
+
+    /**
+     * Drives {@link SampleScenarios#mix()} against a running {@link SampleApplication}:
+     * {@code LoadDriver <baseUri> [ratePerSecond] [concurrency] [durationSeconds]}
+     */
+    public static void main(String[] args) throws InterruptedException {
+        if (args.length == 0) {
+            System.err.println("Usage: LoadDriver <baseUri> [ratePerSecond] [concurrency] [durationSeconds]");
+            System.exit(2);
+        }
+        int rate = args.length > 1 ? Integer.parseInt(args[1]) : 200;
+        int concurrency = args.length > 2 ? Integer.parseInt(args[2]) : 16;
+        Duration duration = Duration.ofSeconds(args.length > 3 ? Long.parseLong(args[3]) : 60);
+        LoadReport report = new LoadDriver(rate, concurrency, Duration.ofSeconds(5), duration)
+                .run(URI.create(args[0]), SampleScenarios.mix());
+        System.out.print(report);
+    }
+}
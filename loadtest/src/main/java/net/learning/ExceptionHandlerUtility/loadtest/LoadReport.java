@@ -0,0 +1,89 @@
+package net.learning.ExceptionHandlerUtility.loadtest;
+
+import lombok.Getter;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Throughput and latency percentiles per scenario of one load test run. Latencies are measured from the time a
+ * request was scheduled, not from when it was sent, so queueing in front of a slow server is included.
+ */
+public final class LoadReport {
+
+    private final Duration duration;
+    private final Map<String, Result> results = new LinkedHashMap<>();
+
+    LoadReport(Duration duration) {
+        this.duration = duration;
+    }
+
+    void add(Scenario scenario, LatencyRecorder recorder) {
+        long[] sorted = recorder.sorted();
+        results.put(scenario.getName(), new Result(scenario.getName(), scenario.isError(), recorder.count(),
+                recorder.unexpected(), recorder.count() / (duration.toMillis() / 1000.0),
+                percentile(sorted, 0.50), percentile(sorted, 0.99), percentile(sorted, 0.999)));
+    }
+
+    public Map<String, Result> getResults() {
+        return Collections.unmodifiableMap(results);
+    }
+
+    public Result get(String scenario) {
+        return results.get(scenario);
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder report = new StringBuilder(String.format("%-34s %8s %10s %9s %9s %9s %10s%n", "scenario",
+                "requests", "req/s", "p50 ms", "p99 ms", "p999 ms", "unexpected"));
+        for (Result result : results.values()) {
+            report.append(String.format("%-34s %8d %10.1f %9.2f %9.2f %9.2f %10d%n", result.getScenario(),
+                    result.getRequests(), result.getThroughput(), millis(result.getP50Nanos()),
+                    millis(result.getP99Nanos()), millis(result.getP999Nanos()), result.getUnexpected()));
+        }
+        return report.toString();
+    }
+
+    private static long percentile(long[] sorted, double quantile) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int index = (int) Math.ceil(quantile * sorted.length) - 1;
+        return sorted[Math.max(index, 0)];
+    }
+
+    private static double millis(long nanos) {
+        return nanos / 1_000_000.0;
+    }
+
+    /**
+     * Measurements of one scenario
+     */
+    @Getter
+    public static final class Result {
+
+        private final String scenario;
+        private final boolean error;
+        private final long requests;
+        private final long unexpected;
+        private final double throughput;
+        private final long p50Nanos;
+        private final long p99Nanos;
+        private final long p999Nanos;
+
+        Result(String scenario, boolean error, long requests, long unexpected, double throughput, long p50Nanos,
+               long p99Nanos, long p999Nanos) {
+            this.scenario = scenario;
+            this.error = error;
+            this.requests = requests;
+            this.unexpected = unexpected;
+            this.throughput = throughput;
+            this.p50Nanos = p50Nanos;
+            this.p99Nanos = p99Nanos;
+            this.p999Nanos = p999Nanos;
+        }
+    }
+}
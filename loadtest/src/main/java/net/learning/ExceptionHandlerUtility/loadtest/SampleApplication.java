@@ -0,0 +1,16 @@
+package net.learning.ExceptionHandlerUtility.loadtest;
+
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+
+/**
+ * Sample service the load test runs against. It only declares {@link SampleController}; the exception handler comes
+ * from the library's auto-configuration, exactly as in a consuming service.
+ */
+@SpringBootApplication
+public class SampleApplication {
+
+    public static void main(String[] args) {
+        SpringApplication.run(SampleApplication.class, args);
+    }
+}
@@ -0,0 +1,70 @@
+package net.learning.ExceptionHandlerUtility.loadtest;
+
+import lombok.Getter;
+import lombok.Setter;
+import net.learning.ExceptionHandlerUtility.exceptions.DataNotFoundException;
+import net.learning.ExceptionHandlerUtility.exceptions.TimeOutException;
+import net.learning.ExceptionHandlerUtility.exceptions.UnAuthorizedException;
+import net.learning.ExceptionHandlerUtility.exceptions.ValidationException;
+import net.learning.ExceptionHandlerUtility.model.Errors;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RestController;
+
+import javax.validation.Valid;
+import javax.validation.constraints.Min;
+import javax.validation.constraints.NotBlank;
+import javax.validation.constraints.Size;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * One endpoint per outcome the load test drives: a successful read and the error paths of the most common exceptions
+ */
+@RestController
+public class SampleController {
+
+    @GetMapping("/orders/{id}")
+    public Map<String, Object> order(@PathVariable long id) {
+        return Map.of("id", id, "status", "SHIPPED");
+    }
+
+    @GetMapping("/missing-orders/{id}")
+    public Map<String, Object> missingOrder(@PathVariable long id) {
+        throw new DataNotFoundException(List.of(Errors.builder().errorMessage("Order " + id + " not found").build()));
+    }
+
+    @GetMapping("/locked-orders/{id}")
+    public Map<String, Object> lockedOrder(@PathVariable long id) {
+        throw new ValidationException(List.of(Errors.builder().errorMessage("Order " + id + " is locked").build()));
+    }
+
+    @PostMapping("/orders")
+    public Map<String, Object> createOrder(@Valid @RequestBody OrderRequest orderRequest) {
+        return Map.of("customer", orderRequest.getCustomer(), "quantity", orderRequest.getQuantity());
+    }
+
+    @GetMapping("/admin/orders")
+    public Map<String, Object> adminOrders() {
+        throw UnAuthorizedException.shared();
+    }
+
+    @GetMapping("/reports/{id}")
+    public Map<String, Object> report(@PathVariable long id) {
+        throw TimeOutException.shared();
+    }
+
+    @Getter
+    @Setter
+    public static class OrderRequest {
+
+        @NotBlank
+        @Size(max = 64)
+        private String customer;
+
+        @Min(1)
+        private int quantity;
+    }
+}
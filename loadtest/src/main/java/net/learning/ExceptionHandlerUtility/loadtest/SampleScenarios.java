@@ -0,0 +1,29 @@
+package net.learning.ExceptionHandlerUtility.loadtest;
+
+import java.util.List;
+
+/**
+ * Traffic mix against {@link SampleController}: mostly successful reads, plus every error path. Scenario names are the
+ * exceptions the requests provoke and key the latency thresholds.
+ */
+public final class SampleScenarios {
+
+    public static final String SUCCESS = "success";
+
+    private SampleScenarios() {
+        // No-OP
+    }
+
+    public static List<Scenario> mix() {
+        return List.of(
+                Scenario.get(SUCCESS, "/orders/42", 200, 50),
+                Scenario.get("DataNotFoundException", "/missing-orders/42", 404, 10),
+                Scenario.get("ValidationException", "/locked-orders/42", 400, 10),
+                Scenario.post("MethodArgumentNotValidException", "/orders", "{\"customer\":\"\",\"quantity\":0}",
+                        400, 10),
+                Scenario.post("HttpMessageNotReadableException", "/orders", "{\"customer\":", 400, 5),
+                Scenario.get("UnAuthorizedException", "/admin/orders", 401, 5),
+                Scenario.get("TimeOutException", "/reports/7", 504, 5),
+                Scenario.get("NoHandlerFoundException", "/wp-login.php", 404, 5));
+    }
+}
@@ -0,0 +1,46 @@
+package net.learning.ExceptionHandlerUtility.loadtest;
+
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * One kind of request in the traffic mix, named after the exception it provokes
+ */
+@Getter
+@ToString
+public final class Scenario {
+
+    private final String name;
+    private final String method;
+    private final String path;
+    private final String body;
+    private final int expectedStatus;
+    private final int weight;
+
+    private Scenario(String name, String method, String path, String body, int expectedStatus, int weight) {
+        if (weight < 1) {
+            throw new IllegalArgumentException("weight must be positive");
+        }
+        this.name = name;
+        this.method = method;
+        this.path = path;
+        this.body = body;
+        this.expectedStatus = expectedStatus;
+        this.weight = weight;
+    }
+
+    public static Scenario get(String name, String path, int expectedStatus, int weight) {
+        return new Scenario(name, "GET", path, null, expectedStatus, weight);
+    }
+
+    public static Scenario post(String name, String path, String body, int expectedStatus, int weight) {
+        return new Scenario(name, "POST", path, body, expectedStatus, weight);
+    }
+
+    /**
+     * @return whether the scenario exercises the error path
+     */
+    public boolean isError() {
+        return expectedStatus >= 400;
+    }
+}
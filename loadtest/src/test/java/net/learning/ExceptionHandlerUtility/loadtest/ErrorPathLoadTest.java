@@ -0,0 +1,83 @@
+package net.learning.ExceptionHandlerUtility.loadtest;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.function.Executable;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.web.server.LocalServerPort;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Properties;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Drives the sample mix against the embedded Tomcat and fails the build when a scenario answers with an unexpected
+ * status, or an error scenario's p99 latency exceeds the p99 of the {@code success} scenario by more than its ratio
+ * from {@code slo.properties} plus the shared slack. Measured against the same run, the gate does not depend on how
+ * fast or busy the machine is.
+ */
+@SpringBootTest(classes = SampleApplication.class, webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+class ErrorPathLoadTest {
+
+    private static final String RATIO_PREFIX = "loadtest.p99.ratio.";
+    private static final String SLACK = "loadtest.p99.slack-ms";
+    private static final String MIN_SAMPLES = "loadtest.min-samples";
+
+    @LocalServerPort
+    private int port;
+
+    @Test
+    void errorPathP99StaysWithinThresholds() throws Exception {
+        LoadDriver driver = new LoadDriver(
+                Integer.getInteger("loadtest.rate", 200),
+                Integer.getInteger("loadtest.concurrency", 16),
+                Duration.parse("PT" + System.getProperty("loadtest.warmup", "5s")),
+                Duration.parse("PT" + System.getProperty("loadtest.duration", "60s")));
+        LoadReport report = driver.run(URI.create("http://localhost:" + port), SampleScenarios.mix());
+        System.out.print(report);
+
+        Properties thresholds = thresholds();
+        long slackNanos = Duration.ofMillis(Long.parseLong(thresholds.getProperty(SLACK, "0").trim())).toNanos();
+        long minSamples = Long.parseLong(thresholds.getProperty(MIN_SAMPLES, "0").trim());
+        LoadReport.Result success = report.get(SampleScenarios.SUCCESS);
+        List<Executable> checks = new ArrayList<>();
+        for (LoadReport.Result result : report.getResults().values()) {
+            checks.add(() -> assertEquals(0, result.getUnexpected(),
+                    result.getScenario() + " answered with an unexpected status"));
+            checks.add(() -> assertTrue(result.getRequests() >= minSamples, String.format(
+                    "%s has %d samples, at least %d are needed for a stable p99, raise loadtest.duration",
+                    result.getScenario(), result.getRequests(), minSamples)));
+            if (result.isError()) {
+                String ratio = thresholds.getProperty(RATIO_PREFIX + result.getScenario());
+                checks.add(() -> assertNotNull(ratio, "No p99 ratio for " + result.getScenario()));
+                if (ratio != null) {
+                    long maxNanos = (long) (success.getP99Nanos() * Double.parseDouble(ratio.trim())) + slackNanos;
+                    checks.add(() -> assertTrue(result.getP99Nanos() <= maxNanos, String.format(
+                            "p99 of %s is %.2f ms, threshold %.2f ms (%s x success p99 of %.2f ms + slack)",
+                            result.getScenario(), result.getP99Nanos() / 1_000_000.0, maxNanos / 1_000_000.0,
+                            ratio, success.getP99Nanos() / 1_000_000.0)));
+                }
+            }
+        }
+        assertAll(checks);
+    }
+
+    private static Properties thresholds() throws IOException {
+        Properties thresholds = new Properties();
+        try (InputStream input = ErrorPathLoadTest.class.getResourceAsStream("/slo.properties")) {
+            thresholds.load(input);
+        }
+        System.getProperties().stringPropertyNames().stream()
+                .filter(name -> name.startsWith("loadtest.p99.") || name.equals(MIN_SAMPLES))
+                .forEach(name -> thresholds.setProperty(name, System.getProperty(name)));
+        return thresholds;
+    }
+}
@@ -0,0 +1,101 @@
+package net.learning.ExceptionHandlerUtility.circuitbreaker;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Circuit breaker of one downstream host. Closed, it lets every call through and counts failures in a
+ * {@link SlidingWindow}. Once at least {@code minimumCalls} calls were made in the window and the failure rate reaches
+ * the threshold it opens, and calls are rejected without touching the network for {@code openDuration}. After that a
+ * single probe call is let through: success closes the circuit, failure opens it again. A probe that is released
+ * without an outcome, or reports none within {@code probeTimeout}, is given up, and the next call becomes the probe.
+ */
+public class CircuitBreaker {
+
+    public enum State { CLOSED, OPEN, HALF_OPEN }
+
+    private static final int CLOSED = 0;
+    private static final int OPEN = 1;
+    private static final int HALF_OPEN = 2;
+
+    private final String host;
+    private final CircuitBreakerSettings settings;
+    private final SlidingWindow window;
+    private final AtomicInteger state = new AtomicInteger(CLOSED);
+    /**
+     * End of the open period while OPEN, end of the current probe's time while HALF_OPEN
+     */
+    private final AtomicLong openUntilNanos = new AtomicLong();
+
+    public CircuitBreaker(String host, CircuitBreakerSettings settings) {
+        this.host = host;
+        this.settings = settings;
+        this.window = new SlidingWindow(settings.getWindowBuckets(), settings.getWindow().toNanos());
+    }
+
+    /**
+     * @throws CircuitOpenException
+     *             when the call must not be made
+     */
+    public void acquirePermission() {
+        int current = state.get();
+        if (current == CLOSED) {
+            return;
+        }
+        long now = System.nanoTime();
+        long openUntil = openUntilNanos.get();
+        long remaining = openUntil - now;
+        if (remaining <= 0
+                && openUntilNanos.compareAndSet(openUntil, now + settings.getProbeTimeout().toNanos())) {
+            state.compareAndSet(OPEN, HALF_OPEN);
+            return;
+        }
+        throw new CircuitOpenException(host, Duration.ofNanos(Math.max(remaining, 0)));
+    }
+
+    public void onSuccess() {
+        if (state.get() == HALF_OPEN && state.compareAndSet(HALF_OPEN, CLOSED)) {
+            window.reset();
+            return;
+        }
+        window.record(false, System.nanoTime());
+    }
+
+    public void onFailure() {
+        long now = System.nanoTime();
+        if (state.get() == HALF_OPEN) {
+            open(HALF_OPEN, now);
+            return;
+        }
+        window.record(true, now);
+        long[] totals = window.totals(now);
+        if (totals[0] >= settings.getMinimumCalls()
+                && totals[1] >= totals[0] * settings.getFailureRateThreshold()) {
+            open(CLOSED, now);
+        }
+    }
+
+    /**
+     * Ends a call that says nothing about the host, e.g. one given up by the caller before it reached the network.
+     * Nothing is recorded; a probe hands its turn to the next call.
+     */
+    public void releasePermission() {
+        if (state.get() == HALF_OPEN) {
+            openUntilNanos.set(System.nanoTime());
+        }
+    }
+
+    public State getState() {
+        return State.values()[state.get()];
+    }
+
+    public String getHost() {
+        return host;
+    }
+
+    private void open(int from, long now) {
+        openUntilNanos.set(now + settings.getOpenDuration().toNanos());
+        state.compareAndSet(from, OPEN);
+    }
+}
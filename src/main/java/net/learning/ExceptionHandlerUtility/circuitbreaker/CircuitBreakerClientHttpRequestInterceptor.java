@@ -0,0 +1,48 @@
+package net.learning.ExceptionHandlerUtility.circuitbreaker;
+
+import org.springframework.http.HttpRequest;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.web.client.ResourceAccessException;
+
+import java.io.IOException;
+import java.net.URI;
+
+/**
+ * RestTemplate interceptor guarding every outbound call with the circuit breaker of its host. Any HTTP response counts
+ * as success and an I/O failure, which the RestTemplate reports as ResourceAccessException, as failure. Other
+ * exceptions, such as the TimeOutException of a caller whose deadline passed before the call was sent, say nothing
+ * about the host: the permission is released without recording an outcome.
+ */
+public class CircuitBreakerClientHttpRequestInterceptor implements ClientHttpRequestInterceptor {
+
+    private final CircuitBreakerRegistry registry;
+
+    public CircuitBreakerClientHttpRequestInterceptor(CircuitBreakerRegistry registry) {
+        this.registry = registry;
+    }
+
+    @Override
+    public ClientHttpResponse intercept(HttpRequest request, byte[] body, ClientHttpRequestExecution execution)
+            throws IOException {
+        CircuitBreaker circuitBreaker = registry.forHost(hostOf(request.getURI()));
+        circuitBreaker.acquirePermission();
+        ClientHttpResponse response;
+        try {
+            response = execution.execute(request, body);
+        } catch (IOException | ResourceAccessException e) {
+            circuitBreaker.onFailure();
+            throw e;
+        } catch (RuntimeException | Error e) {
+            circuitBreaker.releasePermission();
+            throw e;
+        }
+        circuitBreaker.onSuccess();
+        return response;
+    }
+
+    private static String hostOf(URI uri) {
+        return uri.getPort() < 0 ? uri.getHost() : uri.getHost() + ":" + uri.getPort();
+    }
+}
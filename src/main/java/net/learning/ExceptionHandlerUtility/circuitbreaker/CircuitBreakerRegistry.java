@@ -0,0 +1,34 @@
+package net.learning.ExceptionHandlerUtility.circuitbreaker;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * One {@link CircuitBreaker} per downstream host, created on first use
+ */
+public class CircuitBreakerRegistry {
+
+    private final CircuitBreakerSettings settings;
+    private final ConcurrentHashMap<String, CircuitBreaker> circuitBreakers = new ConcurrentHashMap<>();
+
+    public CircuitBreakerRegistry(CircuitBreakerSettings settings) {
+        this.settings = settings;
+    }
+
+    /**
+     * @param host
+     *            host and port of the downstream service
+     *
+     * @return its circuit breaker
+     */
+    public CircuitBreaker forHost(String host) {
+        CircuitBreaker circuitBreaker = circuitBreakers.get(host);
+        return circuitBreaker != null ? circuitBreaker
+                : circuitBreakers.computeIfAbsent(host, key -> new CircuitBreaker(key, settings));
+    }
+
+    public Collection<CircuitBreaker> getCircuitBreakers() {
+        return Collections.unmodifiableCollection(circuitBreakers.values());
+    }
+}
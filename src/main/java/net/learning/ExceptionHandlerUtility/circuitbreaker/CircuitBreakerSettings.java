@@ -0,0 +1,44 @@
+package net.learning.ExceptionHandlerUtility.circuitbreaker;
+
+import lombok.Getter;
+import lombok.Setter;
+
+import java.time.Duration;
+
+/**
+ * Thresholds shared by the circuit breakers of all hosts
+ */
+@Getter
+@Setter
+public class CircuitBreakerSettings {
+
+    /**
+     * Share of failed calls in the window that opens the circuit
+     */
+    private double failureRateThreshold = 0.5;
+
+    /**
+     * Calls needed in the window before the failure rate is evaluated
+     */
+    private int minimumCalls = 20;
+
+    /**
+     * Length of the sliding window
+     */
+    private Duration window = Duration.ofSeconds(10);
+
+    /**
+     * Number of slices the window is divided into
+     */
+    private int windowBuckets = 10;
+
+    /**
+     * Time an open circuit rejects calls before it lets a probe through
+     */
+    private Duration openDuration = Duration.ofSeconds(30);
+
+    /**
+     * Time a half-open circuit waits for the outcome of its probe call before it lets another probe through
+     */
+    private Duration probeTimeout = Duration.ofSeconds(10);
+}
@@ -0,0 +1,38 @@
+package net.learning.ExceptionHandlerUtility.circuitbreaker;
+
+import org.springframework.web.client.ResourceAccessException;
+
+import java.time.Duration;
+
+/**
+ * Thrown instead of calling a downstream host whose circuit is open. Extends ResourceAccessException, so it is
+ * rendered by the same handler as the connection failures that opened the circuit, plus a Retry-After header. It is
+ * thrown on every short-circuited call, so it does not capture a stack trace.
+ */
+public class CircuitOpenException extends ResourceAccessException {
+
+    private final String host;
+    private final transient Duration retryAfter;
+
+    public CircuitOpenException(String host, Duration retryAfter) {
+        super("Circuit open for " + host);
+        this.host = host;
+        this.retryAfter = retryAfter;
+    }
+
+    public String getHost() {
+        return host;
+    }
+
+    /**
+     * @return time until the next call to the host is let through
+     */
+    public Duration getRetryAfter() {
+        return retryAfter;
+    }
+
+    @Override
+    public synchronized Throwable fillInStackTrace() {
+        return this;
+    }
+}
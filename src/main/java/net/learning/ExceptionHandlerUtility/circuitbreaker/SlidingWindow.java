@@ -0,0 +1,68 @@
+package net.learning.ExceptionHandlerUtility.circuitbreaker;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Lock-free count of calls and failures over the last {@code buckets} time slices. Each slice occupies three slots of
+ * one {@link AtomicLongArray}: the slice number it currently counts, its calls and its failures. A slice is reset by
+ * the first thread that sees it belongs to an earlier round; concurrent increments during that reset may be lost,
+ * which only makes the failure rate approximate.
+ */
+final class SlidingWindow {
+
+    private static final int SLICE = 0;
+    private static final int CALLS = 1;
+    private static final int FAILURES = 2;
+
+    private final int buckets;
+    private final long bucketNanos;
+    private final AtomicLongArray slots;
+
+    SlidingWindow(int buckets, long windowNanos) {
+        this.buckets = buckets;
+        this.bucketNanos = Math.max(windowNanos / buckets, 1);
+        this.slots = new AtomicLongArray(buckets * 3);
+    }
+
+    void record(boolean failure, long nowNanos) {
+        int base = current(nowNanos);
+        slots.incrementAndGet(base + CALLS);
+        if (failure) {
+            slots.incrementAndGet(base + FAILURES);
+        }
+    }
+
+    /**
+     * @return calls and failures of the whole window, as {@code { calls, failures }}
+     */
+    long[] totals(long nowNanos) {
+        long slice = nowNanos / bucketNanos;
+        long calls = 0;
+        long failures = 0;
+        for (int i = 0; i < buckets; i++) {
+            int base = i * 3;
+            if (slice - slots.get(base + SLICE) < buckets) {
+                calls += slots.get(base + CALLS);
+                failures += slots.get(base + FAILURES);
+            }
+        }
+        return new long[] { calls, failures };
+    }
+
+    void reset() {
+        for (int i = 0; i < slots.length(); i++) {
+            slots.set(i, 0);
+        }
+    }
+
+    private int current(long nowNanos) {
+        long slice = nowNanos / bucketNanos;
+        int base = (int) Math.floorMod(slice, (long) buckets) * 3;
+        long seen = slots.get(base + SLICE);
+        if (seen != slice && slots.compareAndSet(base + SLICE, seen, slice)) {
+            slots.set(base + CALLS, 0);
+            slots.set(base + FAILURES, 0);
+        }
+        return base;
+    }
+}
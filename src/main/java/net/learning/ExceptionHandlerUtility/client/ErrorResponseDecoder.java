@@ -0,0 +1,123 @@
+package net.learning.ExceptionHandlerUtility.client;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import net.learning.ExceptionHandlerUtility.model.ErrorResponse;
+import net.learning.ExceptionHandlerUtility.model.Errors;
+import net.learning.ExceptionHandlerUtility.model.ItemErrors;
+import net.learning.ExceptionHandlerUtility.utils.ErrorResponseFormats;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.web.client.RestClientResponseException;
+
+import java.io.IOException;
+
+/**
+ * Client-side helper for services calling an API that uses this library. Reads an ErrorResponse in whichever encoding
+ * the server chose, item errors included, and tells the server which encodings the client can read.
+ */
+public class ErrorResponseDecoder {
+
+    private final ObjectMapper jsonMapper;
+    private final ObjectMapper cborMapper;
+    private final ObjectMapper smileMapper;
+
+    public ErrorResponseDecoder() {
+        this(Jackson2ObjectMapperBuilder.json().build());
+    }
+
+    /**
+     * @param jsonMapper
+     *            mapper for JSON bodies, copied so the given one is left unchanged
+     */
+    public ErrorResponseDecoder(ObjectMapper jsonMapper) {
+        this.jsonMapper = withItemErrors(jsonMapper.copy());
+        this.cborMapper = withItemErrors(ErrorResponseFormats.cborMapper());
+        this.smileMapper = withItemErrors(ErrorResponseFormats.smileMapper());
+    }
+
+    /**
+     * @return Accept header value preferring the most compact encoding on the classpath, with JSON as fallback
+     */
+    public String acceptHeader() {
+        StringBuilder accept = new StringBuilder();
+        if (cborMapper != null) {
+            accept.append(ErrorResponseFormats.APPLICATION_CBOR).append(", ");
+        }
+        if (smileMapper != null) {
+            accept.append(ErrorResponseFormats.APPLICATION_SMILE).append(", ");
+        }
+        return accept.append(MediaType.APPLICATION_JSON_VALUE).append(";q=0.9").toString();
+    }
+
+    /**
+     * @param body
+     *            the response body
+     * @param contentType
+     *            the response content type, JSON is assumed when null
+     *
+     * @return the decoded ErrorResponse
+     *
+     * @throws IOException
+     *             when the body is not a valid ErrorResponse
+     */
+    public ErrorResponse decode(byte[] body, MediaType contentType) throws IOException {
+        return mapperFor(contentType).readValue(body, ErrorResponse.class);
+    }
+
+    /**
+     * @param exception
+     *            error status returned to a RestTemplate
+     *
+     * @return the ErrorResponse carried by the exception
+     *
+     * @throws IOException
+     *             when the body is not a valid ErrorResponse
+     */
+    public ErrorResponse decode(RestClientResponseException exception) throws IOException {
+        HttpHeaders headers = exception.getResponseHeaders();
+        return decode(exception.getResponseBodyAsByteArray(), headers != null ? headers.getContentType() : null);
+    }
+
+    private static ObjectMapper withItemErrors(ObjectMapper mapper) {
+        return mapper == null ? null
+                : mapper.registerModule(new SimpleModule().addDeserializer(Errors.class, new ErrorsDeserializer()));
+    }
+
+        private ObjectMapper mapperFor(MediaType contentType) {
+        if (contentType != null) {
+            if (cborMapper != null && ErrorResponseFormats.APPLICATION_CBOR.isCompatibleWith(contentType)) {
+                return cborMapper;
+            }
+            if (smileMapper != null && ErrorResponseFormats.APPLICATION_SMILE.isCompatibleWith(contentType)) {
+                return smileMapper;
+            }
+        }
+        return jsonMapper;
+    }
+
+    /**
+     * Reads an error with an {@code itemIndex} back as {@link ItemErrors}
+     */
+    private static final class ErrorsDeserializer extends StdDeserializer<Errors> {
+
+        private ErrorsDeserializer() {
+            super(Errors.class);
+        }
+
+        @Override
+        public Errors deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+            JsonNode node = parser.readValueAsTree();
+            JsonNode errorMessage = node.get("errorMessage");
+            String message = errorMessage == null || errorMessage.isNull() ? null : errorMessage.asText();
+            JsonNode itemIndex = node.get("itemIndex");
+            return itemIndex != null && itemIndex.canConvertToInt() ? new ItemErrors(itemIndex.intValue(), message)
+                    : new Errors(message);
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package net.learning.ExceptionHandlerUtility.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import net.learning.ExceptionHandlerUtility.handler.ErrorResponseHttpMessageConverter;
+import net.learning.ExceptionHandlerUtility.utils.ErrorResponseFormats;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.util.List;
+
+/**
+ * Registers {@link ErrorResponseHttpMessageConverter} in front of the other converters, using the application's
+ * {@link ObjectMapper} settings when one is available. CBOR and Smile converters follow the JSON one when their Jackson
+ * modules are on the classpath, so JSON stays the default for clients accepting anything.
+ * <p>
+ * Registered as a bean by {@link ExceptionHandlerAutoConfiguration} and deliberately not a {@code @Configuration}, so
+ * a component scan of this library does not pick it up. Converters already registered by another instance are kept
+ * as they are.
+ */
+public class ErrorResponseConverterConfiguration implements WebMvcConfigurer {
+
+    private final ObjectProvider<ObjectMapper> objectMapper;
+
+    public ErrorResponseConverterConfiguration(ObjectProvider<ObjectMapper> objectMapper) {
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+        if (converters.stream().anyMatch(ErrorResponseHttpMessageConverter.class::isInstance)) {
+            return;
+        }
+        int index = 0;
+        converters.add(index++, new ErrorResponseHttpMessageConverter(objectMapper.getIfAvailable(ObjectMapper::new)));
+        if (ErrorResponseFormats.isCborPresent()) {
+            converters.add(index++, new ErrorResponseHttpMessageConverter(ErrorResponseFormats.cborMapper(),
+                    ErrorResponseFormats.APPLICATION_CBOR));
+        }
+        if (ErrorResponseFormats.isSmilePresent()) {
+            converters.add(index, new ErrorResponseHttpMessageConverter(ErrorResponseFormats.smileMapper(),
+                    ErrorResponseFormats.APPLICATION_SMILE));
+        }
+    }
+}
@@ -0,0 +1,279 @@
+package net.learning.ExceptionHandlerUtility.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import net.learning.ExceptionHandlerUtility.circuitbreaker.CircuitBreakerClientHttpRequestInterceptor;
+import net.learning.ExceptionHandlerUtility.circuitbreaker.CircuitBreakerRegistry;
+import net.learning.ExceptionHandlerUtility.deadline.DeadlineClientHttpRequestInterceptor;
+import net.learning.ExceptionHandlerUtility.diagnostics.RecentErrorsBuffer;
+import net.learning.ExceptionHandlerUtility.diagnostics.RecentErrorsEndpoint;
+import net.learning.ExceptionHandlerUtility.deadline.DeadlineHandlerInterceptor;
+import net.learning.ExceptionHandlerUtility.deadline.RequestDeadlineFilter;
+import net.learning.ExceptionHandlerUtility.guard.RequestBodyGuardFilter;
+import net.learning.ExceptionHandlerUtility.handler.ErrorMappingExceptionResolver;
+import net.learning.ExceptionHandlerUtility.handler.GlobalExceptionHandler;
+import net.learning.ExceptionHandlerUtility.handler.HandledErrorListener;
+import net.learning.ExceptionHandlerUtility.handler.HandledErrorListeners;
+import net.learning.ExceptionHandlerUtility.journal.ErrorJournal;
+import net.learning.ExceptionHandlerUtility.mapping.ErrorMappingRegistrar;
+import net.learning.ExceptionHandlerUtility.mapping.ErrorMappingRegistry;
+import net.learning.ExceptionHandlerUtility.metrics.InProcessErrorMetrics;
+import net.learning.ExceptionHandlerUtility.metrics.MicrometerErrorMetrics;
+import net.learning.ExceptionHandlerUtility.reactive.ReactiveGlobalExceptionHandler;
+import net.learning.ExceptionHandlerUtility.routing.UnmappedPathFilter;
+import net.learning.ExceptionHandlerUtility.utils.ErrorPayloadLimits;
+import net.learning.ExceptionHandlerUtility.utils.ErrorResponseWriters;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.AutoConfigureAfter;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.autoconfigure.web.servlet.DispatcherServletPath;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.client.RestTemplateCustomizer;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.core.Ordered;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.io.IOException;
+import java.nio.file.Paths;
+import java.util.stream.Collectors;
+
+/**
+ * Auto-configuration entry point. Picks the servlet or the reactive exception handler depending on the type of the
+ * running web application. Handled errors are counted through Micrometer when a MeterRegistry is available and in
+ * process otherwise. Every feature can be switched off with its {@code exception-handler.*.enabled} property, and the
+ * whole library with {@code exception-handler.enabled=false}. Components that are only needed once an error is
+ * handled, such as the metrics and the journal, are created lazily with the first handled error.
+ */
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnProperty(prefix = "exception-handler", name = "enabled", havingValue = "true", matchIfMissing = true)
+@EnableConfigurationProperties(ExceptionHandlerProperties.class)
+@AutoConfigureAfter(name = "org.springframework.boot.actuate.autoconfigure.metrics.CompositeMeterRegistryAutoConfiguration")
+public class ExceptionHandlerAutoConfiguration {
+
+    @Bean
+    @ConditionalOnMissingBean
+    public ErrorMappingRegistry errorMappingRegistry(ObjectProvider<ErrorMappingRegistrar> registrars) {
+        ErrorMappingRegistry registry = new ErrorMappingRegistry();
+        registrars.orderedStream().forEach(registrar -> registrar.registerErrorMappings(registry));
+        return registry;
+    }
+
+    @Bean
+    @ConditionalOnMissingBean
+    public ErrorPayloadLimits errorPayloadLimits(ExceptionHandlerProperties properties) {
+        return new ErrorPayloadLimits(properties.getPayload().getMaxErrors(),
+                properties.getPayload().getMaxMessageLength());
+    }
+
+    @Bean
+    @Lazy
+    @ConditionalOnMissingBean({ InProcessErrorMetrics.class, MicrometerErrorMetrics.class })
+    @ConditionalOnProperty(prefix = "exception-handler.metrics", name = "enabled", havingValue = "true",
+            matchIfMissing = true)
+    public InProcessErrorMetrics inProcessErrorMetrics() {
+        return new InProcessErrorMetrics();
+    }
+
+    static HandledErrorListeners handledErrorListeners(ObjectProvider<HandledErrorListener> listeners) {
+        return HandledErrorListeners.lazy(() -> listeners.orderedStream().collect(Collectors.toList()));
+    }
+
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnProperty(prefix = "exception-handler.recent-errors", name = "enabled", havingValue = "true",
+            matchIfMissing = true)
+    static class RecentErrorsConfiguration {
+
+        @Bean
+        @Lazy
+        @ConditionalOnMissingBean
+        public RecentErrorsBuffer recentErrorsBuffer(ExceptionHandlerProperties properties) {
+            return new RecentErrorsBuffer(properties.getRecentErrors().getCapacity());
+        }
+
+        @Bean
+        @ConditionalOnMissingBean
+        @ConditionalOnClass(name = "org.springframework.boot.actuate.endpoint.annotation.Endpoint")
+        public RecentErrorsEndpoint recentErrorsEndpoint(ObjectProvider<RecentErrorsBuffer> recentErrorsBuffer) {
+            return new RecentErrorsEndpoint(recentErrorsBuffer);
+        }
+    }
+
+    @Bean
+    @ConditionalOnMissingBean
+    @ConditionalOnProperty(prefix = "exception-handler.journal", name = "enabled", havingValue = "true")
+    public ErrorJournal errorJournal(ExceptionHandlerProperties properties) throws IOException {
+        ExceptionHandlerProperties.Journal journal = properties.getJournal();
+        return new ErrorJournal(Paths.get(journal.getDirectory()), journal.getSegmentSize(),
+                journal.getMaxSegments(), journal.getQueueCapacity());
+    }
+
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnProperty(prefix = "exception-handler.circuit-breaker", name = "enabled", havingValue = "true")
+    static class CircuitBreakerConfiguration {
+
+        @Bean
+        @ConditionalOnMissingBean
+        public CircuitBreakerRegistry circuitBreakerRegistry(ExceptionHandlerProperties properties) {
+            return new CircuitBreakerRegistry(properties.getCircuitBreaker());
+        }
+
+        @Bean
+        @ConditionalOnClass(name = "org.springframework.boot.web.client.RestTemplateCustomizer")
+        public RestTemplateCustomizer circuitBreakerRestTemplateCustomizer(CircuitBreakerRegistry registry) {
+            CircuitBreakerClientHttpRequestInterceptor interceptor = new CircuitBreakerClientHttpRequestInterceptor(registry);
+            return restTemplate -> restTemplate.getInterceptors().add(interceptor);
+        }
+    }
+
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnClass(name = "io.micrometer.core.instrument.MeterRegistry")
+    @ConditionalOnBean(type = "io.micrometer.core.instrument.MeterRegistry")
+    @ConditionalOnProperty(prefix = "exception-handler.metrics", name = "enabled", havingValue = "true",
+            matchIfMissing = true)
+    static class MicrometerMetricsConfiguration {
+
+        @Bean
+        @Lazy
+        @ConditionalOnMissingBean
+        public MicrometerErrorMetrics micrometerErrorMetrics(MeterRegistry meterRegistry) {
+            return new MicrometerErrorMetrics(meterRegistry);
+        }
+    }
+
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+    @ConditionalOnClass(name = "org.springframework.web.servlet.DispatcherServlet")
+    static class ServletExceptionHandlerConfiguration {
+
+        /**
+         * Backs off when the application already registers the handler, e.g. by still component-scanning this
+         * library, so that every exception is not advised twice.
+         */
+        @Bean
+        @ConditionalOnMissingBean
+        public GlobalExceptionHandler globalExceptionHandler() {
+            return new GlobalExceptionHandler();
+        }
+
+        @Bean
+        @ConditionalOnMissingBean
+        @ConditionalOnProperty(prefix = "exception-handler.converter", name = "enabled", havingValue = "true",
+                matchIfMissing = true)
+        public ErrorResponseConverterConfiguration errorResponseConverterConfiguration(
+                ObjectProvider<ObjectMapper> objectMapper) {
+            return new ErrorResponseConverterConfiguration(objectMapper);
+        }
+
+        @Bean
+        public ErrorMappingExceptionResolver errorMappingExceptionResolver(ErrorMappingRegistry errorMappingRegistry,
+                                                                           ObjectProvider<ObjectMapper> objectMapper,
+                                                                           ObjectProvider<HandledErrorListener> listeners) {
+            return new ErrorMappingExceptionResolver(errorMappingRegistry,
+                    ErrorResponseWriters.of(objectMapper.getIfAvailable(ObjectMapper::new)),
+                    handledErrorListeners(listeners));
+        }
+
+        @Configuration(proxyBeanMethods = false)
+        @ConditionalOnProperty(prefix = "exception-handler.deadline", name = "enabled", havingValue = "true")
+        static class DeadlineConfiguration implements WebMvcConfigurer {
+
+            @Bean
+            public FilterRegistrationBean<RequestDeadlineFilter> requestDeadlineFilter(
+                    ExceptionHandlerProperties properties) {
+                ExceptionHandlerProperties.Deadline deadline = properties.getDeadline();
+                FilterRegistrationBean<RequestDeadlineFilter> registration = new FilterRegistrationBean<>(
+                        new RequestDeadlineFilter(deadline.getHeader(), deadline.getDefaultTimeout(),
+                                deadline.getMaxTimeout()));
+                registration.setOrder(Ordered.HIGHEST_PRECEDENCE);
+                return registration;
+            }
+
+            @Bean
+            @ConditionalOnClass(name = "org.springframework.boot.web.client.RestTemplateCustomizer")
+            public RestTemplateCustomizer deadlineRestTemplateCustomizer(ExceptionHandlerProperties properties) {
+                DeadlineClientHttpRequestInterceptor interceptor =
+                        new DeadlineClientHttpRequestInterceptor(properties.getDeadline().getHeader());
+                return restTemplate -> restTemplate.getInterceptors().add(interceptor);
+            }
+
+            @Override
+            public void addInterceptors(InterceptorRegistry registry) {
+                registry.addInterceptor(new DeadlineHandlerInterceptor());
+            }
+        }
+
+        @Configuration(proxyBeanMethods = false)
+        @ConditionalOnProperty(prefix = "exception-handler.unmapped-paths", name = "enabled", havingValue = "true")
+        static class UnmappedPathConfiguration {
+
+            @Bean
+            @ConditionalOnMissingBean
+            public UnmappedPathFilter unmappedPathFilter(ObjectProvider<ObjectMapper> objectMapper,
+                                                         ObjectProvider<DispatcherServletPath> dispatcherServletPath,
+                                                         ExceptionHandlerProperties properties) {
+                DispatcherServletPath servletPath = dispatcherServletPath.getIfAvailable();
+                return new UnmappedPathFilter(ErrorResponseWriters.of(objectMapper.getIfAvailable(ObjectMapper::new)),
+                        servletPath != null ? servletPath.getPrefix() : "",
+                        properties.getUnmappedPaths().getMaxClients());
+            }
+
+            @Bean
+            public FilterRegistrationBean<UnmappedPathFilter> unmappedPathFilterRegistration(
+                    UnmappedPathFilter unmappedPathFilter, ExceptionHandlerProperties properties) {
+                FilterRegistrationBean<UnmappedPathFilter> registration =
+                        new FilterRegistrationBean<>(unmappedPathFilter);
+                registration.setOrder(properties.getUnmappedPaths().getOrder());
+                return registration;
+            }
+        }
+
+        @Configuration(proxyBeanMethods = false)
+        @ConditionalOnProperty(prefix = "exception-handler.request-body", name = "enabled", havingValue = "true")
+        static class RequestBodyGuardConfiguration {
+
+            @Bean
+            @ConditionalOnMissingBean
+            public RequestBodyGuardFilter requestBodyGuardFilter(ObjectProvider<ObjectMapper> objectMapper,
+                                                                 ExceptionHandlerProperties properties) {
+                ExceptionHandlerProperties.RequestBody requestBody = properties.getRequestBody();
+                return new RequestBodyGuardFilter(
+                        ErrorResponseWriters.of(objectMapper.getIfAvailable(ObjectMapper::new)),
+                        (int) Math.min(requestBody.getMaxSize().toBytes(), Integer.MAX_VALUE - 8),
+                        requestBody.getMaxDepth(), requestBody.getAllowedContentTypes());
+            }
+
+            @Bean
+            public FilterRegistrationBean<RequestBodyGuardFilter> requestBodyGuardFilterRegistration(
+                    RequestBodyGuardFilter requestBodyGuardFilter) {
+                FilterRegistrationBean<RequestBodyGuardFilter> registration =
+                        new FilterRegistrationBean<>(requestBodyGuardFilter);
+                registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 2);
+                return registration;
+            }
+        }
+    }
+
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+    @ConditionalOnClass(name = "org.springframework.web.reactive.DispatcherHandler")
+    static class ReactiveExceptionHandlerConfiguration {
+
+        @Bean
+        @ConditionalOnMissingBean
+        public ReactiveGlobalExceptionHandler reactiveGlobalExceptionHandler(ObjectProvider<ObjectMapper> objectMapper,
+                                                                             ErrorMappingRegistry errorMappingRegistry,
+                                                                             ObjectProvider<HandledErrorListener> listeners,
+                                                                             ObjectProvider<ErrorPayloadLimits> errorPayloadLimits) {
+            return new ReactiveGlobalExceptionHandler(objectMapper.getIfAvailable(ObjectMapper::new),
+                    errorMappingRegistry, handledErrorListeners(listeners), errorPayloadLimits.getIfUnique());
+        }
+    }
+}
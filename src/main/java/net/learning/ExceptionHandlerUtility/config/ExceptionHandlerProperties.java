@@ -0,0 +1,208 @@
+package net.learning.ExceptionHandlerUtility.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import net.learning.ExceptionHandlerUtility.circuitbreaker.CircuitBreakerSettings;
+import org.springframework.boot.autoconfigure.security.SecurityProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.http.MediaType;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Settings of the exception handler, bound from the {@code exception-handler} prefix
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "exception-handler")
+public class ExceptionHandlerProperties {
+
+    /**
+     * Whether the exception handler is configured at all
+     */
+    private boolean enabled = true;
+
+    private final Metrics metrics = new Metrics();
+
+    private final Converter converter = new Converter();
+
+    private final Deadline deadline = new Deadline();
+
+    private final CircuitBreaker circuitBreaker = new CircuitBreaker();
+
+    private final Payload payload = new Payload();
+
+    private final RecentErrors recentErrors = new RecentErrors();
+
+    private final Journal journal = new Journal();
+
+    private final UnmappedPaths unmappedPaths = new UnmappedPaths();
+
+    private final RequestBody requestBody = new RequestBody();
+
+    @Getter
+    @Setter
+    public static class Metrics {
+
+        /**
+         * Whether handled errors are counted, through Micrometer when available and in process otherwise
+         */
+        private boolean enabled = true;
+    }
+
+    @Getter
+    @Setter
+    public static class Converter {
+
+        /**
+         * Whether ErrorResponse bodies are written by the streaming message converters
+         */
+        private boolean enabled = true;
+    }
+
+    @Getter
+    @Setter
+    public static class Deadline {
+
+        /**
+         * Whether requests get a deadline at all
+         */
+        private boolean enabled;
+
+        /**
+         * Request header carrying the client's remaining budget in milliseconds
+         */
+        private String header = "X-Request-Timeout";
+
+        /**
+         * Budget of requests without the header, none when not set
+         */
+        private Duration defaultTimeout;
+
+        /**
+         * Upper bound for budgets taken from the header
+         */
+        private Duration maxTimeout = Duration.ofSeconds(30);
+    }
+
+    @Getter
+    @Setter
+    public static class Payload {
+
+        /**
+         * Errors kept per response, the rest is only counted
+         */
+        private int maxErrors = 1000;
+
+        /**
+         * Characters kept per error message
+         */
+        private int maxMessageLength = 2048;
+    }
+
+    @Getter
+    @Setter
+    public static class RecentErrors {
+
+        /**
+         * Whether the most recent errors are kept in memory for diagnostics
+         */
+        private boolean enabled = true;
+
+        /**
+         * Number of events kept, rounded up to a power of two
+         */
+        private int capacity = 1024;
+    }
+
+    @Getter
+    @Setter
+    public static class Journal {
+
+        /**
+         * Whether handled errors are appended to the on-disk journal
+         */
+        private boolean enabled;
+
+        /**
+         * Directory of the segment files
+         */
+        private String directory = "error-journal";
+
+        /**
+         * Size of each segment file in bytes
+         */
+        private int segmentSize = 16 * 1024 * 1024;
+
+        /**
+         * Number of segment files kept, the oldest is deleted first
+         */
+        private int maxSegments = 8;
+
+        /**
+         * Errors that may wait for the writer before new ones are dropped
+         */
+        private int queueCapacity = 8192;
+    }
+
+    @Getter
+    @Setter
+    public static class UnmappedPaths {
+
+        /**
+         * Whether requests for paths no handler is mapped to are answered before the DispatcherServlet
+         */
+        private boolean enabled;
+
+        /**
+         * Client addresses whose rejections are counted individually
+         */
+        private int maxClients = 10000;
+
+        /**
+         * Order of the filter. By default it runs right after Spring Security, so unauthenticated clients get the
+         * security response for every path and can not tell mapped from unmapped ones. A lower value, e.g.
+         * -2147483647, rejects unmapped paths before security and saves its work, at the price of revealing which
+         * paths exist.
+         */
+        private int order = SecurityProperties.DEFAULT_FILTER_ORDER + 1;
+    }
+
+    @Getter
+    @Setter
+    public static class RequestBody {
+
+        /**
+         * Whether request bodies are checked before they reach the application
+         */
+        private boolean enabled;
+
+        /**
+         * Largest JSON body accepted
+         */
+        private DataSize maxSize = DataSize.ofMegabytes(1);
+
+        /**
+         * Deepest nesting of JSON objects and arrays accepted
+         */
+        private int maxDepth = 64;
+
+        /**
+         * Content types a request body may have, any when empty
+         */
+        private List<MediaType> allowedContentTypes = new ArrayList<>();
+    }
+
+    @Getter
+    @Setter
+    public static class CircuitBreaker extends CircuitBreakerSettings {
+
+        /**
+         * Whether outbound RestTemplate calls are guarded per host
+         */
+        private boolean enabled;
+    }
+}
@@ -0,0 +1,61 @@
+package net.learning.ExceptionHandlerUtility.deadline;
+
+import net.learning.ExceptionHandlerUtility.exceptions.TimeOutException;
+
+import java.time.Duration;
+
+/**
+ * Point in time after which nobody is waiting for the result of a request anymore. Based on
+ * {@link System#nanoTime()}, so it is not affected by wall clock changes.
+ */
+public final class Deadline {
+
+    private final long deadlineNanos;
+
+    private Deadline(long deadlineNanos) {
+        this.deadlineNanos = deadlineNanos;
+    }
+
+    /**
+     * @param budget
+     *            time left from now
+     *
+     * @return the deadline
+     */
+    public static Deadline after(Duration budget) {
+        return new Deadline(System.nanoTime() + budget.toNanos());
+    }
+
+    public long remainingNanos() {
+        return Math.max(deadlineNanos - System.nanoTime(), 0);
+    }
+
+    public long remainingMillis() {
+        return Duration.ofNanos(remainingNanos()).toMillis();
+    }
+
+    public Duration remaining() {
+        return Duration.ofNanos(remainingNanos());
+    }
+
+    public boolean isExpired() {
+        return deadlineNanos - System.nanoTime() <= 0;
+    }
+
+    /**
+     * @throws TimeOutException
+     *             when the deadline has passed
+     */
+    public void check() {
+        if (isExpired()) {
+            throw TimeOutException.shared();
+        }
+    }
+
+    /**
+     * @return the earlier of this deadline and the other
+     */
+    public Deadline min(Deadline other) {
+        return other == null || deadlineNanos - other.deadlineNanos <= 0 ? this : other;
+    }
+}
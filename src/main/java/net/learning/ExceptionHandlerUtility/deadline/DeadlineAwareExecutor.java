@@ -0,0 +1,22 @@
+package net.learning.ExceptionHandlerUtility.deadline;
+
+import java.util.concurrent.Executor;
+
+/**
+ * Executor that runs every task with the deadline of the submitting request and drops tasks whose deadline has passed
+ * before they start. Wraps any executor: a thread pool, or a virtual-thread-per-task executor on Java 21.
+ */
+public class DeadlineAwareExecutor implements Executor {
+
+    private final Executor delegate;
+
+    public DeadlineAwareExecutor(Executor delegate) {
+        this.delegate = delegate;
+    }
+
+    @Override
+    public void execute(Runnable command) {
+        DeadlineContext.check();
+        delegate.execute(DeadlineContext.wrap(command));
+    }
+}
@@ -0,0 +1,34 @@
+package net.learning.ExceptionHandlerUtility.deadline;
+
+import org.springframework.http.client.SimpleClientHttpRequestFactory;
+
+import java.io.IOException;
+import java.net.HttpURLConnection;
+
+/**
+ * Request factory that bounds the connect and read timeout of every connection to the remaining budget of the current
+ * deadline, so a slow downstream service can not hold the request past it. Configured timeouts still apply when they
+ * are shorter. The read timeout limits each wait for data, not the whole exchange. Use it as the request factory of
+ * the RestTemplate, e.g. {@code restTemplateBuilder.requestFactory(DeadlineClientHttpRequestFactory::new)}
+ */
+public class DeadlineClientHttpRequestFactory extends SimpleClientHttpRequestFactory {
+
+    @Override
+    protected void prepareConnection(HttpURLConnection connection, String httpMethod) throws IOException {
+        super.prepareConnection(connection, httpMethod);
+        Deadline deadline = DeadlineContext.current();
+        if (deadline != null) {
+            deadline.check();
+            int remainingMillis = (int) Math.min(Math.max(deadline.remainingMillis(), 1), Integer.MAX_VALUE);
+            connection.setConnectTimeout(bounded(connection.getConnectTimeout(), remainingMillis));
+            connection.setReadTimeout(bounded(connection.getReadTimeout(), remainingMillis));
+        }
+    }
+
+    /**
+     * A timeout of 0 means none
+     */
+    private static int bounded(int timeout, int remainingMillis) {
+        return timeout > 0 ? Math.min(timeout, remainingMillis) : remainingMillis;
+    }
+}
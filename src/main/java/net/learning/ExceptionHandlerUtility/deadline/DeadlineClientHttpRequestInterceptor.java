@@ -0,0 +1,41 @@
+package net.learning.ExceptionHandlerUtility.deadline;
+
+import org.springframework.http.HttpRequest;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+
+import java.io.IOException;
+
+/**
+ * RestTemplate interceptor that skips outbound calls once the current deadline has passed and forwards the remaining
+ * budget to the downstream service in the timeout header. It does not shorten socket timeouts; together with
+ * {@link DeadlineClientHttpRequestFactory} a call that times out at the deadline fails with
+ * {@link net.learning.ExceptionHandlerUtility.exceptions.TimeOutException}
+ */
+public class DeadlineClientHttpRequestInterceptor implements ClientHttpRequestInterceptor {
+
+    private final String header;
+
+    public DeadlineClientHttpRequestInterceptor(String header) {
+        this.header = header;
+    }
+
+    @Override
+    public ClientHttpResponse intercept(HttpRequest request, byte[] body, ClientHttpRequestExecution execution)
+            throws IOException {
+        Deadline deadline = DeadlineContext.current();
+        if (deadline != null) {
+            deadline.check();
+            request.getHeaders().set(header, Long.toString(deadline.remainingMillis()));
+        }
+        try {
+            return execution.execute(request, body);
+        } catch (IOException e) {
+            if (deadline != null) {
+                deadline.check();
+            }
+            throw e;
+        }
+    }
+}
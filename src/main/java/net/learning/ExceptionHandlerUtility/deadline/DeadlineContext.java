@@ -0,0 +1,98 @@
+package net.learning.ExceptionHandlerUtility.deadline;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.Callable;
+
+/**
+ * Deadline of the request handled by the current thread. Set by {@link RequestDeadlineFilter} and carried to other
+ * threads by {@link #wrap(Runnable)}, {@link DeadlineAwareExecutor} and {@link Deadlines}.
+ */
+public final class DeadlineContext {
+
+    private static final ThreadLocal<Deadline> CURRENT = new ThreadLocal<>();
+
+    private DeadlineContext() {
+        // No-OP
+    }
+
+    /**
+     * @return the deadline of the current request, or null when it has none
+     */
+    public static Deadline current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * @return time left for the current request, empty when it has no deadline
+     */
+    public static Optional<Duration> remaining() {
+        Deadline deadline = CURRENT.get();
+        return deadline == null ? Optional.empty() : Optional.of(deadline.remaining());
+    }
+
+    /**
+     * Cancellation point for service code: throws once nobody waits for the result anymore
+     *
+     * @throws net.learning.ExceptionHandlerUtility.exceptions.TimeOutException
+     *             when the deadline of the current request has passed
+     */
+    public static void check() {
+        Deadline deadline = CURRENT.get();
+        if (deadline != null) {
+            deadline.check();
+        }
+    }
+
+    public static void set(Deadline deadline) {
+        if (deadline == null) {
+            CURRENT.remove();
+        } else {
+            CURRENT.set(deadline);
+        }
+    }
+
+    public static void clear() {
+        CURRENT.remove();
+    }
+
+    /**
+     * @return the task, running with the caller's deadline and skipped once it has passed
+     */
+    public static Runnable wrap(Runnable task) {
+        Deadline deadline = CURRENT.get();
+        if (deadline == null) {
+            return task;
+        }
+        return () -> {
+            Deadline previous = CURRENT.get();
+            CURRENT.set(deadline);
+            try {
+                deadline.check();
+                task.run();
+            } finally {
+                set(previous);
+            }
+        };
+    }
+
+    /**
+     * @return the task, running with the caller's deadline and failing once it has passed
+     */
+    public static <T> Callable<T> wrap(Callable<T> task) {
+        Deadline deadline = CURRENT.get();
+        if (deadline == null) {
+            return task;
+        }
+        return () -> {
+            Deadline previous = CURRENT.get();
+            CURRENT.set(deadline);
+            try {
+                deadline.check();
+                return task.call();
+            } finally {
+                set(previous);
+            }
+        };
+    }
+}
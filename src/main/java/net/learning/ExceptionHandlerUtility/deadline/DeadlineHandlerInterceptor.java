@@ -0,0 +1,19 @@
+package net.learning.ExceptionHandlerUtility.deadline;
+
+import org.springframework.web.servlet.HandlerInterceptor;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+/**
+ * Rejects requests whose deadline has already passed before the handler runs, e.g. after queueing in the container.
+ * The TimeOutException is thrown inside the DispatcherServlet, so it is rendered by the regular 504 handler.
+ */
+public class DeadlineHandlerInterceptor implements HandlerInterceptor {
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        DeadlineContext.check();
+        return true;
+    }
+}
@@ -0,0 +1,74 @@
+package net.learning.ExceptionHandlerUtility.deadline;
+
+import net.learning.ExceptionHandlerUtility.exceptions.TimeOutException;
+import org.springframework.web.context.request.async.DeferredResult;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Binds asynchronous results to the deadline of the current request, so an expired request is answered with the
+ * TimeOutException response and the pending work is cancelled
+ */
+public final class Deadlines {
+
+    private Deadlines() {
+        // No-OP
+    }
+
+    /**
+     * Completes with a {@link TimeOutException} when the current deadline passes first, and cancels the given future
+     * in that case. Returns the future unchanged when the request has no deadline.
+     *
+     * @param future
+     *            the pending work
+     *
+     * @return a future bound to the deadline
+     */
+    public static <T> CompletableFuture<T> withDeadline(CompletableFuture<T> future) {
+        Deadline deadline = DeadlineContext.current();
+        if (deadline == null) {
+            return future;
+        }
+        CompletableFuture<T> bounded = new CompletableFuture<>();
+        future.whenComplete((value, failure) -> {
+            if (failure != null) {
+                bounded.completeExceptionally(failure);
+            } else {
+                bounded.complete(value);
+            }
+        });
+        bounded.orTimeout(deadline.remainingNanos(), TimeUnit.NANOSECONDS).whenComplete((value, failure) -> {
+            if (unwrap(failure) instanceof TimeoutException) {
+                future.cancel(true);
+            }
+        });
+        return bounded.handle((value, failure) -> {
+            if (failure == null) {
+                return value;
+            }
+            Throwable cause = unwrap(failure);
+            throw new CompletionException(cause instanceof TimeoutException ? TimeOutException.shared() : cause);
+        });
+    }
+
+    /**
+     * @return a DeferredResult that times out with a {@link TimeOutException} at the current deadline, or a plain
+     *         DeferredResult with the MVC default timeout when the request has none
+     */
+    public static <T> DeferredResult<T> deferredResult() {
+        Deadline deadline = DeadlineContext.current();
+        if (deadline == null) {
+            return new DeferredResult<>();
+        }
+        DeferredResult<T> result = new DeferredResult<>(Math.max(deadline.remainingMillis(), 1L));
+        result.onTimeout(() -> result.setErrorResult(TimeOutException.shared()));
+        return result;
+    }
+
+    private static Throwable unwrap(Throwable failure) {
+        return failure instanceof CompletionException && failure.getCause() != null ? failure.getCause() : failure;
+    }
+}
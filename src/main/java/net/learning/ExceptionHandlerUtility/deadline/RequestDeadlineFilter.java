@@ -0,0 +1,74 @@
+package net.learning.ExceptionHandlerUtility.deadline;
+
+import org.springframework.util.StringUtils;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.time.Duration;
+
+/**
+ * Establishes the deadline of every request from the timeout header sent by the client, capped at
+ * {@code maxTimeout}, or from {@code defaultTimeout} when the header is absent. The deadline is available through
+ * {@link DeadlineContext} while the request is processed and as the {@link #DEADLINE_ATTRIBUTE} request attribute.
+ */
+public class RequestDeadlineFilter extends OncePerRequestFilter {
+
+    public static final String DEADLINE_ATTRIBUTE = RequestDeadlineFilter.class.getName() + ".deadline";
+
+    private final String header;
+    private final Duration defaultTimeout;
+    private final Duration maxTimeout;
+
+    /**
+     * @param header
+     *            request header with the budget in milliseconds
+     * @param defaultTimeout
+     *            budget when the header is absent, null for none
+     * @param maxTimeout
+     *            upper bound of any budget, null for none
+     */
+    public RequestDeadlineFilter(String header, Duration defaultTimeout, Duration maxTimeout) {
+        this.header = header;
+        this.defaultTimeout = defaultTimeout;
+        this.maxTimeout = maxTimeout;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        Duration budget = budgetOf(request);
+        if (budget == null) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+        Deadline deadline = Deadline.after(budget);
+        request.setAttribute(DEADLINE_ATTRIBUTE, deadline);
+        Deadline previous = DeadlineContext.current();
+        DeadlineContext.set(deadline);
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            DeadlineContext.set(previous);
+        }
+    }
+
+    private Duration budgetOf(HttpServletRequest request) {
+        Duration budget = defaultTimeout;
+        String value = request.getHeader(header);
+        if (StringUtils.hasText(value)) {
+            try {
+                budget = Duration.ofMillis(Math.max(Long.parseLong(value.trim()), 0));
+            } catch (NumberFormatException e) {
+                // malformed header: keep the default budget
+            }
+        }
+        if (budget != null && maxTimeout != null && budget.compareTo(maxTimeout) > 0) {
+            budget = maxTimeout;
+        }
+        return budget;
+    }
+}
@@ -0,0 +1,22 @@
+package net.learning.ExceptionHandlerUtility.diagnostics;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.time.Instant;
+
+/**
+ * Number of buffered events sharing a status and URI template
+ */
+@Getter
+@Builder
+@ToString
+public class ErrorAggregate {
+
+    private final int status;
+    private final String uriTemplate;
+    private final long count;
+    private final Instant lastSeen;
+    private final String lastException;
+}
@@ -0,0 +1,23 @@
+package net.learning.ExceptionHandlerUtility.diagnostics;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.time.Instant;
+
+/**
+ * Copy of one event of the {@link RecentErrorsBuffer}
+ */
+@Getter
+@Builder
+@ToString
+public class RecentError {
+
+    private final long sequence;
+    private final Instant timestamp;
+    private final String exception;
+    private final int status;
+    private final String uriTemplate;
+    private final String message;
+}
@@ -0,0 +1,187 @@
+package net.learning.ExceptionHandlerUtility.diagnostics;
+
+import net.learning.ExceptionHandlerUtility.handler.HandledErrorListener;
+import net.learning.ExceptionHandlerUtility.model.Errors;
+import org.springframework.http.HttpStatus;
+
+import java.lang.invoke.VarHandle;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Fixed-size ring of the most recent handled errors. All slots are allocated up front as parallel arrays, and an
+ * event only stores references to objects that already exist (exception class, URI template, first message), so
+ * recording allocates nothing and memory stays the same however many errors arrive.
+ * <p>
+ * Writers claim a sequence number with one atomic increment and publish their slot through a per-slot version
+ * (a seqlock): odd while the slot is written, {@code 2 * sequence + 2} once it is complete. A writer that finds its
+ * slot still busy or already taken by a newer sequence drops the event rather than wait. Readers copy a slot and keep
+ * it only if the version was the same, even value before and after.
+ */
+public class RecentErrorsBuffer implements HandledErrorListener {
+
+    public static final int DEFAULT_CAPACITY = 1024;
+
+    private final int mask;
+    private final AtomicLong nextSequence = new AtomicLong();
+    private final AtomicLongArray versions;
+    private final long[] timestamps;
+    private final Class<?>[] exceptionTypes;
+    private final int[] statuses;
+    private final String[] uriTemplates;
+    private final String[] messages;
+    private final LongAdder dropped = new LongAdder();
+
+    public RecentErrorsBuffer() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * @param capacity
+     *            number of events kept, rounded up to a power of two
+     */
+    public RecentErrorsBuffer(int capacity) {
+        if (capacity < 1 || capacity > 1 << 24) {
+            throw new IllegalArgumentException("capacity must be between 1 and 2^24");
+        }
+        int size = capacity == 1 ? 1 : Integer.highestOneBit(capacity - 1) << 1;
+        this.mask = size - 1;
+        this.versions = new AtomicLongArray(size);
+        this.timestamps = new long[size];
+        this.exceptionTypes = new Class<?>[size];
+        this.statuses = new int[size];
+        this.uriTemplates = new String[size];
+        this.messages = new String[size];
+    }
+
+    @Override
+    public void onErrorHandled(Throwable exception, HttpStatus status, String uriTemplate, List<Errors> errors,
+                               long latencyNanos) {
+        long sequence = nextSequence.getAndIncrement();
+        int slot = (int) (sequence & mask);
+        long current = versions.get(slot);
+        long writing = 2 * sequence + 1;
+        if ((current & 1) != 0 || current > writing || !versions.compareAndSet(slot, current, writing)) {
+            dropped.increment();
+            return;
+        }
+        VarHandle.storeStoreFence();
+        timestamps[slot] = System.currentTimeMillis();
+        exceptionTypes[slot] = exception.getClass();
+        statuses[slot] = status.value();
+        uriTemplates[slot] = uriTemplate;
+        messages[slot] = firstMessage(errors);
+        versions.setRelease(slot, writing + 1);
+    }
+
+    public int capacity() {
+        return mask + 1;
+    }
+
+    /**
+     * @return number of events recorded since creation, including overwritten and dropped ones
+     */
+    public long getRecorded() {
+        return nextSequence.get();
+    }
+
+    /**
+     * @return number of events dropped because their slot was being written concurrently
+     */
+    public long getDropped() {
+        return dropped.sum();
+    }
+
+    /**
+     * @param limit
+     *            maximum number of events to return
+     *
+     * @return the most recent events, newest first
+     */
+    public List<RecentError> last(int limit) {
+        long newest = nextSequence.get() - 1;
+        long oldest = Math.max(newest - mask, 0);
+        List<RecentError> events = new ArrayList<>(Math.min(limit, capacity()));
+        for (long sequence = newest; sequence >= oldest && events.size() < limit; sequence--) {
+            RecentError event = read(sequence);
+            if (event != null) {
+                events.add(event);
+            }
+        }
+        return events;
+    }
+
+    /**
+     * @param limit
+     *            maximum number of aggregates to return
+     *
+     * @return buffered events grouped by status and URI template, most frequent first
+     */
+    public List<ErrorAggregate> top(int limit) {
+        Map<String, Group> groups = new HashMap<>();
+        for (RecentError event : last(capacity())) {
+            groups.computeIfAbsent(event.getStatus() + " " + event.getUriTemplate(), key -> new Group(event)).count++;
+        }
+        List<ErrorAggregate> aggregates = new ArrayList<>(groups.size());
+        for (Group group : groups.values()) {
+            aggregates.add(ErrorAggregate.builder()
+                    .status(group.newest.getStatus())
+                    .uriTemplate(group.newest.getUriTemplate())
+                    .count(group.count)
+                    .lastSeen(group.newest.getTimestamp())
+                    .lastException(group.newest.getException())
+                    .build());
+        }
+        aggregates.sort(Comparator.comparingLong(ErrorAggregate::getCount).reversed());
+        return aggregates.size() > limit ? new ArrayList<>(aggregates.subList(0, limit)) : aggregates;
+    }
+
+    private RecentError read(long sequence) {
+        int slot = (int) (sequence & mask);
+        long complete = 2 * sequence + 2;
+        if (versions.getAcquire(slot) != complete) {
+            return null;
+        }
+        long timestamp = timestamps[slot];
+        Class<?> exceptionType = exceptionTypes[slot];
+        int status = statuses[slot];
+        String uriTemplate = uriTemplates[slot];
+        String message = messages[slot];
+        VarHandle.loadLoadFence();
+        if (versions.get(slot) != complete) {
+            return null;
+        }
+        return RecentError.builder()
+                .sequence(sequence)
+                .timestamp(Instant.ofEpochMilli(timestamp))
+                .exception(exceptionType.getName())
+                .status(status)
+                .uriTemplate(uriTemplate)
+                .message(message)
+                .build();
+    }
+
+    private static String firstMessage(List<Errors> errors) {
+        if (errors == null || errors.isEmpty() || errors.get(0) == null) {
+            return null;
+        }
+        return errors.get(0).getErrorMessage();
+    }
+
+    private static final class Group {
+
+        private final RecentError newest;
+        private long count;
+
+        private Group(RecentError newest) {
+            this.newest = newest;
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package net.learning.ExceptionHandlerUtility.diagnostics;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.lang.Nullable;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * Actuator endpoint exposing the {@link RecentErrorsBuffer}, e.g.
+ * {@code GET /actuator/recenterrors?limit=50&top=10}
+ */
+@Endpoint(id = "recenterrors")
+public class RecentErrorsEndpoint {
+
+    private static final int DEFAULT_LIMIT = 100;
+    private static final int DEFAULT_TOP = 10;
+
+    private final Supplier<RecentErrorsBuffer> recentErrorsBuffer;
+
+    public RecentErrorsEndpoint(RecentErrorsBuffer recentErrorsBuffer) {
+        this.recentErrorsBuffer = () -> recentErrorsBuffer;
+    }
+
+    /**
+     * Resolves the buffer on the first read, so that exposing the endpoint does not create a lazy buffer at startup.
+     */
+    public RecentErrorsEndpoint(ObjectProvider<RecentErrorsBuffer> recentErrorsBuffer) {
+        this.recentErrorsBuffer = recentErrorsBuffer::getObject;
+    }
+
+    /**
+     * @param limit
+     *            number of recent events to return, 100 when absent, clamped to [0, capacity]
+     * @param top
+     *            number of status and URI template aggregates to return, 10 when absent, clamped to [0, capacity]
+     *
+     * @return counters, the most frequent failing status and URI template pairs, and the most recent events
+     */
+    @ReadOperation
+    public Map<String, Object> recentErrors(@Nullable Integer limit, @Nullable Integer top) {
+        RecentErrorsBuffer buffer = recentErrorsBuffer.get();
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("capacity", buffer.capacity());
+        body.put("recorded", buffer.getRecorded());
+        body.put("dropped", buffer.getDropped());
+        body.put("top", buffer.top(clamp(top, DEFAULT_TOP, buffer)));
+        body.put("events", buffer.last(clamp(limit, DEFAULT_LIMIT, buffer)));
+        return body;
+    }
+
+    private static int clamp(Integer requested, int defaultValue, RecentErrorsBuffer buffer) {
+        int value = requested != null ? requested : defaultValue;
+        return Math.max(0, Math.min(value, buffer.capacity()));
+    }
+}
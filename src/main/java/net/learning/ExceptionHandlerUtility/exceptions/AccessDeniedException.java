@@ -7,6 +7,8 @@ import java.util.List;
 
 public class AccessDeniedException extends DataInputs {
 
+    private static final AccessDeniedException SHARED = new AccessDeniedException(true);
+
     /*public AccessDeniedException(List<Errors> errorMessage) {
         this.errorMessage = errorMessage;
     }*/
@@ -14,4 +16,17 @@ public class AccessDeniedException extends DataInputs {
     public AccessDeniedException(){
         // NO-OP
     }
+
+    private AccessDeniedException(boolean shared) {
+        super(shared);
+    }
+
+    /**
+     * Pre-allocated instance without a stack trace, meant for high volume authorization failures
+     *
+     * @return the shared AccessDeniedException
+     */
+    public static AccessDeniedException shared() {
+        return SHARED;
+    }
 }
@@ -10,5 +10,9 @@ public class DataNotFoundException extends DataInputs {
     public DataNotFoundException(List<Errors> errorMessage) {
         this.errorMessage = errorMessage;
     }
-}
 
+    public DataNotFoundException(List<Errors> errorMessage, Throwable cause) {
+        super(cause);
+        this.errorMessage = errorMessage;
+    }
+}
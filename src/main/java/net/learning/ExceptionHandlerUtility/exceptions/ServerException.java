@@ -9,4 +9,9 @@ public class ServerException extends DataInputs {
     public ServerException(List<Errors> errorMessage) {
         this.errorMessage = errorMessage;
     }
+
+    public ServerException(List<Errors> errorMessage, Throwable cause) {
+        super(cause);
+        this.errorMessage = errorMessage;
+    }
 }
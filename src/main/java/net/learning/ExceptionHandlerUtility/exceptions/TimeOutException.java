@@ -4,6 +4,21 @@ import net.learning.ExceptionHandlerUtility.model.DataInputs;
 
 public class TimeOutException extends DataInputs {
 
+    private static final TimeOutException SHARED = new TimeOutException(true);
+
     public TimeOutException() {
     }
+
+    private TimeOutException(boolean shared) {
+        super(shared);
+    }
+
+    /**
+     * Pre-allocated instance without a stack trace. It holds no request state, so it can be thrown from any thread.
+     *
+     * @return the shared TimeOutException
+     */
+    public static TimeOutException shared() {
+        return SHARED;
+    }
 }
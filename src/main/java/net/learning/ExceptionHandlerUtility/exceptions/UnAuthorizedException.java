@@ -3,7 +3,23 @@ package net.learning.ExceptionHandlerUtility.exceptions;
 import net.learning.ExceptionHandlerUtility.model.DataInputs;
 
 public class UnAuthorizedException extends DataInputs {
+
+    private static final UnAuthorizedException SHARED = new UnAuthorizedException(true);
+
     public UnAuthorizedException() {
 
     }
+
+    private UnAuthorizedException(boolean shared) {
+        super(shared);
+    }
+
+    /**
+     * Pre-allocated instance for rejecting unauthenticated calls without capturing a stack trace
+     *
+     * @return the shared UnAuthorizedException
+     */
+    public static UnAuthorizedException shared() {
+        return SHARED;
+    }
 }
@@ -11,4 +11,9 @@ public class ValidationException extends DataInputs {
 
         this.errorMessage = errorMessage;
     }
+
+    public ValidationException(List<Errors> errorMessage, Throwable cause) {
+        super(cause);
+        this.errorMessage = errorMessage;
+    }
 }
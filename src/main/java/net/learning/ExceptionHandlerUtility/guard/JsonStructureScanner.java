@@ -0,0 +1,69 @@
+package net.learning.ExceptionHandlerUtility.guard;
+
+/**
+ * Incremental check of the bracket structure of a UTF-8 or ASCII JSON document, fed chunk by chunk as the body
+ * arrives. Tracks strings and escapes to find the structural brackets, fails as soon as the nesting gets too deep or
+ * a bracket does not match. Everything else, like literals and commas, is left to the JSON parser.
+ */
+final class JsonStructureScanner {
+
+    enum Result {
+        OK, TOO_DEEP, MALFORMED
+    }
+
+    private final boolean[] objects;
+    private int depth;
+    private boolean inString;
+    private boolean escaped;
+
+    /**
+     * @param maxDepth
+     *            deepest nesting of objects and arrays accepted
+     */
+    JsonStructureScanner(int maxDepth) {
+        this.objects = new boolean[maxDepth];
+    }
+
+    Result scan(byte[] bytes, int offset, int length) {
+        for (int i = offset; i < offset + length; i++) {
+            byte b = bytes[i];
+            if (inString) {
+                if (escaped) {
+                    escaped = false;
+                } else if (b == '\\') {
+                    escaped = true;
+                } else if (b == '"') {
+                    inString = false;
+                }
+                continue;
+            }
+            switch (b) {
+                case '"':
+                    inString = true;
+                    break;
+                case '{':
+                case '[':
+                    if (depth == objects.length) {
+                        return Result.TOO_DEEP;
+                    }
+                    objects[depth++] = b == '{';
+                    break;
+                case '}':
+                case ']':
+                    if (depth == 0 || objects[--depth] != (b == '}')) {
+                        return Result.MALFORMED;
+                    }
+                    break;
+                default:
+            }
+        }
+        return Result.OK;
+    }
+
+    /**
+     * @return whether the document ended with all strings and brackets closed
+     */
+    boolean isComplete() {
+        return depth == 0 && !inString;
+    }
+}
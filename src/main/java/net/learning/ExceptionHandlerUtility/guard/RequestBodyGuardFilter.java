@@ -0,0 +1,196 @@
+package net.learning.ExceptionHandlerUtility.guard;
+
+import net.learning.ExceptionHandlerUtility.utils.Constants;
+import net.learning.ExceptionHandlerUtility.utils.ErrorResponseWriters;
+import net.learning.ExceptionHandlerUtility.utils.ServletErrorResponses;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Rejects bad request bodies before they are buffered and parsed by Jackson, with the 400 ErrorResponse of
+ * {@link org.springframework.http.converter.HttpMessageNotReadableException}:
+ * <ul>
+ * <li>bodies whose content type is malformed or not one of {@code allowedContentTypes}, when any are given</li>
+ * <li>JSON bodies larger than {@code maxBodySize}, up front when the Content-Length says so and otherwise as soon as
+ * the limit is passed</li>
+ * <li>JSON bodies nested deeper than {@code maxDepth} or with unbalanced brackets, as soon as they are read</li>
+ * </ul>
+ * A JSON body that passes is kept in a buffer of at most {@code maxBodySize} bytes and handed on to the application
+ * from memory. Other bodies are passed on untouched.
+ */
+public class RequestBodyGuardFilter extends OncePerRequestFilter {
+
+    private static final int INITIAL_BUFFER_SIZE = 8 * 1024;
+
+    private final ServletErrorResponses errorResponses;
+    private final int maxBodySize;
+    private final int maxDepth;
+    private final List<MediaType> allowedContentTypes;
+    private final LongAdder rejections = new LongAdder();
+
+    /**
+     * @param errorResponseWriters
+     *            writers of the 400 body
+     * @param maxBodySize
+     *            largest JSON body accepted, in bytes
+     * @param maxDepth
+     *            deepest nesting of JSON objects and arrays accepted
+     * @param allowedContentTypes
+     *            content types a body may have, any when empty
+     */
+    public RequestBodyGuardFilter(ErrorResponseWriters errorResponseWriters, int maxBodySize, int maxDepth,
+                                  List<MediaType> allowedContentTypes) {
+        if (maxBodySize < 1 || maxDepth < 1) {
+            throw new IllegalArgumentException("maxBodySize and maxDepth must be positive");
+        }
+        this.errorResponses = new ServletErrorResponses(errorResponseWriters);
+        this.maxBodySize = maxBodySize;
+        this.maxDepth = maxDepth;
+        this.allowedContentTypes = List.copyOf(allowedContentTypes);
+    }
+
+    /**
+     * @return number of rejected requests
+     */
+    public long getRejections() {
+        return rejections.sum();
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        long contentLength = request.getContentLengthLong();
+        if (!mayHaveBody(request, contentLength)) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+        MediaType contentType;
+        try {
+            contentType = request.getContentType() != null ? MediaType.parseMediaType(request.getContentType()) : null;
+        } catch (InvalidMediaTypeException e) {
+            reject(request, response, unsupported(request.getContentType()));
+            return;
+        }
+        if (!isAllowed(contentType)) {
+            reject(request, response, unsupported(request.getContentType()));
+            return;
+        }
+        if (contentType == null || !isJson(contentType)) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+        if (contentLength > maxBodySize) {
+            reject(request, response, Constants.BODY_TOO_LARGE_ERROR_MESSAGE);
+            return;
+        }
+        readAndCheck(request, response, filterChain, (int) contentLength, isScannable(contentType));
+    }
+
+    private void readAndCheck(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain,
+                              int contentLength, boolean scan) throws ServletException, IOException {
+        JsonStructureScanner scanner = scan ? new JsonStructureScanner(maxDepth) : null;
+        byte[] buffer = new byte[contentLength > 0 ? contentLength : Math.min(INITIAL_BUFFER_SIZE, maxBodySize)];
+        int length = 0;
+        InputStream input = request.getInputStream();
+        while (true) {
+            if (length == buffer.length) {
+                if (length == maxBodySize) {
+                    if (input.read() != -1) {
+                        reject(request, response, Constants.BODY_TOO_LARGE_ERROR_MESSAGE);
+                        return;
+                    }
+                    break;
+                }
+                buffer = Arrays.copyOf(buffer, (int) Math.min(maxBodySize, 2L * buffer.length));
+            }
+            int read = input.read(buffer, length, buffer.length - length);
+            if (read == -1) {
+                break;
+            }
+            if (scanner != null) {
+                JsonStructureScanner.Result result = scanner.scan(buffer, length, read);
+                if (result != JsonStructureScanner.Result.OK) {
+                    reject(request, response, result == JsonStructureScanner.Result.TOO_DEEP
+                            ? Constants.BODY_TOO_DEEP_ERROR_MESSAGE : Constants.MALFORMED_BODY_ERROR_MESSAGE);
+                    return;
+                }
+            }
+            length += read;
+        }
+        if (scanner != null && length > 0 && !scanner.isComplete()) {
+            reject(request, response, Constants.MALFORMED_BODY_ERROR_MESSAGE);
+            return;
+        }
+        filterChain.doFilter(new CachedBodyRequest(request, buffer, length), response);
+    }
+
+    /**
+     * Without a Content-Length the body may still be there, HTTP/2 requests have no Transfer-Encoding. A GET or HEAD
+     * request or one without a content type is taken to have none. An empty JSON body is passed on for the application
+     * to decide on.
+     */
+    private static boolean mayHaveBody(HttpServletRequest request, long contentLength) {
+        if (contentLength >= 0) {
+            return contentLength > 0;
+        }
+        if (request.getHeader(HttpHeaders.TRANSFER_ENCODING) != null) {
+            return true;
+        }
+        return !HttpMethod.GET.matches(request.getMethod()) && !HttpMethod.HEAD.matches(request.getMethod())
+                && request.getContentType() != null;
+    }
+
+    private void reject(HttpServletRequest request, HttpServletResponse response, String errorMessage)
+            throws IOException {
+        rejections.increment();
+        errorResponses.write(request, response, HttpStatus.BAD_REQUEST, errorMessage);
+    }
+
+    private boolean isAllowed(MediaType contentType) {
+        if (allowedContentTypes.isEmpty()) {
+            return true;
+        }
+        if (contentType == null) {
+            return false;
+        }
+        for (MediaType allowed : allowedContentTypes) {
+            if (allowed.includes(contentType)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean isJson(MediaType contentType) {
+        return MediaType.APPLICATION_JSON.includes(contentType) || contentType.getSubtype().endsWith("+json");
+    }
+
+    /**
+     * UTF-16 and UTF-32 bodies are only size checked, their brackets are not single bytes
+     */
+    private static boolean isScannable(MediaType contentType) {
+        Charset charset = contentType.getCharset();
+        return charset == null || charset.equals(StandardCharsets.UTF_8) || charset.equals(StandardCharsets.US_ASCII)
+                || charset.equals(StandardCharsets.ISO_8859_1);
+    }
+
+    private static String unsupported(String contentType) {
+        return "Content type '" + (contentType != null ? contentType : "") + "' not supported";
+    }
+}
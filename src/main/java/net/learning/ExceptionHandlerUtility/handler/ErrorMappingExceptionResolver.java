@@ -0,0 +1,104 @@
+package net.learning.ExceptionHandlerUtility.handler;
+
+import lombok.extern.slf4j.Slf4j;
+import net.learning.ExceptionHandlerUtility.mapping.ErrorMapping;
+import net.learning.ExceptionHandlerUtility.mapping.ErrorMappingRegistry;
+import net.learning.ExceptionHandlerUtility.model.ErrorResponse;
+import net.learning.ExceptionHandlerUtility.model.Errors;
+import net.learning.ExceptionHandlerUtility.utils.ErrorResponseWriter;
+import net.learning.ExceptionHandlerUtility.utils.ErrorResponseWriters;
+import net.learning.ExceptionHandlerUtility.utils.ExceptionHandlerHelperUtil;
+import net.learning.ExceptionHandlerUtility.utils.UriTemplates;
+import org.springframework.core.Ordered;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
+import org.springframework.web.servlet.HandlerExceptionResolver;
+import org.springframework.web.servlet.ModelAndView;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Generic fast path for exceptions registered in the {@link ErrorMappingRegistry}. Runs ahead of the
+ * {@code @ExceptionHandler} methods, resolves the mapping with one cached lookup and writes the ErrorResponse
+ * directly, without reflective handler invocation, in JSON or the binary encoding the client prefers. Exceptions without
+ * a mapping are left to the other resolvers.
+ */
+@Slf4j
+public class ErrorMappingExceptionResolver implements HandlerExceptionResolver, Ordered {
+
+    private final ErrorMappingRegistry errorMappingRegistry;
+    private final ErrorResponseWriters errorResponseWriters;
+    private final HandledErrorListeners handledErrorListeners;
+
+    public ErrorMappingExceptionResolver(ErrorMappingRegistry errorMappingRegistry,
+                                         ErrorResponseWriter errorResponseWriter) {
+        this(errorMappingRegistry, errorResponseWriter, HandledErrorListeners.NONE);
+    }
+
+    public ErrorMappingExceptionResolver(ErrorMappingRegistry errorMappingRegistry,
+                                         ErrorResponseWriter errorResponseWriter,
+                                         HandledErrorListeners handledErrorListeners) {
+        this(errorMappingRegistry, ErrorResponseWriters.jsonOnly(errorResponseWriter), handledErrorListeners);
+    }
+
+    public ErrorMappingExceptionResolver(ErrorMappingRegistry errorMappingRegistry,
+                                         ErrorResponseWriters errorResponseWriters,
+                                         HandledErrorListeners handledErrorListeners) {
+        this.errorMappingRegistry = errorMappingRegistry;
+        this.errorResponseWriters = errorResponseWriters;
+        this.handledErrorListeners = handledErrorListeners;
+    }
+
+    @Override
+    public int getOrder() {
+        return Ordered.HIGHEST_PRECEDENCE + 10;
+    }
+
+    @Override
+    public ModelAndView resolveException(HttpServletRequest request, HttpServletResponse response, Object handler,
+                                         Exception exception) {
+        ErrorMapping errorMapping = errorMappingRegistry.resolve(exception.getClass());
+        if (errorMapping == null || response.isCommitted()) {
+            return null;
+        }
+        long startNanos = System.nanoTime();
+        List<Errors> errors = errorMapping.errorsFor(exception);
+        ErrorResponse errorResponse = ErrorResponse.builder()
+                .method(HttpMethod.resolve(request.getMethod()))
+                .requestUri(request.getRequestURI())
+                .statusCode(errorMapping.getStatus().name())
+                .timestamp(ExceptionHandlerHelperUtil.currentTimeStamp())
+                .errors(errors)
+                .build();
+        ErrorResponseWriters.Format format = errorResponseWriters.select(acceptedMediaTypes(request));
+        response.setStatus(errorMapping.getStatus().value());
+        response.setContentType(format.getMediaType().toString());
+        try {
+            format.getWriter().write(errorResponse, response.getOutputStream());
+        } catch (IOException e) {
+            log.warn("Failed to write error response for {}", exception.getClass().getName(), e);
+        }
+        if (!handledErrorListeners.isEmpty()) {
+            handledErrorListeners.onErrorHandled(exception, errorMapping.getStatus(), UriTemplates.of(request), errors,
+                    System.nanoTime() - startNanos);
+        }
+        return new ModelAndView();
+    }
+
+    private static List<MediaType> acceptedMediaTypes(HttpServletRequest request) {
+        String accept = request.getHeader(HttpHeaders.ACCEPT);
+        if (accept == null || accept.isEmpty()) {
+            return List.of();
+        }
+        try {
+            return MediaType.parseMediaTypes(accept);
+        } catch (InvalidMediaTypeException e) {
+            return List.of();
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package net.learning.ExceptionHandlerUtility.handler;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import net.learning.ExceptionHandlerUtility.model.ErrorResponse;
+import net.learning.ExceptionHandlerUtility.utils.ErrorResponseWriter;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Write-only converter for {@link ErrorResponse} bodies that streams the fields with {@link ErrorResponseWriter}
+ * instead of going through Jackson databinding. Registered ahead of the generic Jackson converters, once for JSON and
+ * once per binary encoding on the classpath.
+ */
+public class ErrorResponseHttpMessageConverter extends AbstractHttpMessageConverter<ErrorResponse> {
+
+    private final ErrorResponseWriter errorResponseWriter;
+
+    public ErrorResponseHttpMessageConverter(ObjectMapper objectMapper) {
+        this(objectMapper, MediaType.APPLICATION_JSON, new MediaType("application", "*+json"));
+    }
+
+    /**
+     * @param objectMapper
+     *            mapper whose format and settings are written, e.g. a CBOR mapper
+     * @param supportedMediaTypes
+     *            the media types of that format
+     */
+    public ErrorResponseHttpMessageConverter(ObjectMapper objectMapper, MediaType... supportedMediaTypes) {
+        super(supportedMediaTypes);
+        this.errorResponseWriter = new ErrorResponseWriter(objectMapper);
+    }
+
+    @Override
+    protected boolean supports(Class<?> clazz) {
+        return ErrorResponse.class == clazz;
+    }
+
+    @Override
+    public boolean canRead(Class<?> clazz, MediaType mediaType) {
+        return false;
+    }
+
+    @Override
+    public boolean canWrite(Class<?> clazz, MediaType mediaType) {
+        return super.canWrite(clazz, mediaType) && (mediaType == null || mediaType.getCharset() == null
+                || StandardCharsets.UTF_8.equals(mediaType.getCharset()));
+    }
+
+    @Override
+    protected ErrorResponse readInternal(Class<? extends ErrorResponse> clazz, HttpInputMessage inputMessage) {
+        throw new HttpMessageNotReadableException("ErrorResponse can only be written", inputMessage);
+    }
+
+    @Override
+    protected void writeInternal(ErrorResponse errorResponse, HttpOutputMessage outputMessage) throws IOException {
+        errorResponseWriter.write(errorResponse, outputMessage.getBody());
+    }
+}
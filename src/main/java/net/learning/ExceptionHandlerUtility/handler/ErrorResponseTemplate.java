@@ -0,0 +1,324 @@
+package net.learning.ExceptionHandlerUtility.handler;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import net.learning.ExceptionHandlerUtility.model.ErrorResponse;
+import net.learning.ExceptionHandlerUtility.model.Errors;
+import net.learning.ExceptionHandlerUtility.utils.ErrorResponseFormats;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Pre-encoded JSON body of an ErrorResponse whose status and errors never change. Only requestUri and timestamp are
+ * encoded per request, into a per-thread buffer that is written straight to the servlet output stream. The constant
+ * parts are produced once per HTTP method by the application's {@link ObjectMapper}, so naming strategy, inclusion,
+ * indentation and enum format are the same as for every other error body. A mapper whose output the template can not
+ * reproduce byte for byte, e.g. one with custom character escapes, disables the template and the caller renders the
+ * response itself. Requests asking for a binary encoding are left to content negotiation.
+ */
+@Slf4j
+public final class ErrorResponseTemplate {
+
+    private static final String REQUEST_URI_MARKER = "\u0000requestUri\u0000";
+    private static final String TIMESTAMP_MARKER = "\u0000timestamp\u0000";
+    private static final String[][] SAMPLES = {
+            { "/sa\"m\\ple/\u00e9\u4e2d\ud83d\ude00\n\u0001x", "2024-01-01T00:00:00" },
+            { "", "2024-01-01T00:00:00" } };
+    private static final byte[] HEX = ascii("0123456789ABCDEF");
+    private static final int INITIAL_BUFFER_SIZE = 512;
+
+    private static final ThreadLocal<byte[]> BUFFER = ThreadLocal.withInitial(() -> new byte[INITIAL_BUFFER_SIZE]);
+
+    private final HttpStatus status;
+    private final boolean requestUriFirst;
+    private final byte[][] prefixes;
+    private final byte[][] separators;
+    private final byte[][] suffixes;
+
+    private ErrorResponseTemplate(HttpStatus status, boolean requestUriFirst, byte[][] prefixes, byte[][] separators,
+                                  byte[][] suffixes) {
+        this.status = status;
+        this.requestUriFirst = requestUriFirst;
+        this.prefixes = prefixes;
+        this.separators = separators;
+        this.suffixes = suffixes;
+    }
+
+    /**
+     * Pre-encodes the constant parts of an ErrorResponse with a default {@link ObjectMapper}
+     *
+     * @param status
+     *            written as statusCode and used as HTTP status
+     * @param errors
+     *            the constant errors of the body
+     *
+     * @return the template
+     */
+    public static ErrorResponseTemplate of(HttpStatus status, List<Errors> errors) {
+        return of(new ObjectMapper(), status, errors);
+    }
+
+    /**
+     * Pre-encodes the constant parts of an ErrorResponse with the given mapper
+     *
+     * @param mapper
+     *            the mapper the other error bodies are written with
+     * @param status
+     *            written as statusCode and used as HTTP status
+     * @param errors
+     *            the constant errors of the body
+     *
+     * @return the template, one that never writes when the mapper's output can not be reproduced
+     */
+    public static ErrorResponseTemplate of(ObjectMapper mapper, HttpStatus status, List<Errors> errors) {
+        byte[] requestUriMarker = encode(REQUEST_URI_MARKER);
+        byte[] timestampMarker = encode(TIMESTAMP_MARKER);
+        HttpMethod[] methods = HttpMethod.values();
+        byte[][] prefixes = new byte[methods.length][];
+        byte[][] separators = new byte[methods.length][];
+        byte[][] suffixes = new byte[methods.length][];
+        Boolean requestUriFirst = null;
+        try {
+            for (HttpMethod method : methods) {
+                byte[] encoded = mapper.writeValueAsBytes(new ErrorResponse(method, REQUEST_URI_MARKER, status.name(),
+                        TIMESTAMP_MARKER, errors));
+                int requestUri = indexOfOnly(encoded, requestUriMarker);
+                int timestamp = indexOfOnly(encoded, timestampMarker);
+                if (requestUri < 0 || timestamp < 0
+                        || (requestUriFirst != null && requestUriFirst != requestUri < timestamp)) {
+                    return disabled(status);
+                }
+                requestUriFirst = requestUri < timestamp;
+                int first = Math.min(requestUri, timestamp);
+                int second = Math.max(requestUri, timestamp);
+                int firstEnd = first + (requestUriFirst ? requestUriMarker : timestampMarker).length;
+                int secondEnd = second + (requestUriFirst ? timestampMarker : requestUriMarker).length;
+                prefixes[method.ordinal()] = Arrays.copyOfRange(encoded, 0, first);
+                separators[method.ordinal()] = Arrays.copyOfRange(encoded, firstEnd, second);
+                suffixes[method.ordinal()] = Arrays.copyOfRange(encoded, secondEnd, encoded.length);
+            }
+            ErrorResponseTemplate template = new ErrorResponseTemplate(status, requestUriFirst, prefixes, separators,
+                    suffixes);
+            return template.reproduces(mapper, errors) ? template : disabled(status);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Errors can not be encoded as JSON", e);
+        }
+    }
+
+    private static ErrorResponseTemplate disabled(HttpStatus status) {
+        return new ErrorResponseTemplate(status, true, null, null, null);
+    }
+
+    /**
+     * @return false when the mapper ignores fields, escapes differently or otherwise writes bytes this template does
+     *         not produce for the same values
+     */
+    private boolean reproduces(ObjectMapper mapper, List<Errors> errors) throws JsonProcessingException {
+        for (HttpMethod method : HttpMethod.values()) {
+            for (String[] sample : SAMPLES) {
+                byte[] buffer = new byte[maxLength(method, sample[0], sample[1])];
+                int length = render(buffer, method, sample[0], sample[1]);
+                byte[] expected = mapper.writeValueAsBytes(new ErrorResponse(method, sample[0], status.name(),
+                        sample[1], errors));
+                if (!Arrays.equals(buffer, 0, length, expected, 0, expected.length)) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Writes the body to the response of the given request, unless the request can not take it. A client that went
+     * away while the body was written is logged, the body counts as written.
+     *
+     * @param servletWebRequest
+     *            the current request and response
+     * @param method
+     *            HTTP method to write, null makes the call fall back
+     * @param requestUri
+     *            request URI to write, null makes the call fall back
+     * @param timestamp
+     *            timestamp to write
+     *
+     * @return true when the body was written, false when the caller has to render the response itself
+     */
+    public boolean write(ServletWebRequest servletWebRequest, HttpMethod method, String requestUri, String timestamp) {
+        HttpServletResponse response = servletWebRequest.getResponse();
+        if (prefixes == null || method == null || requestUri == null || timestamp == null || response == null
+                || response.isCommitted() || !acceptsJson(servletWebRequest.getHeader(HttpHeaders.ACCEPT))) {
+            return false;
+        }
+        byte[] buffer = BUFFER.get();
+        int maxLength = maxLength(method, requestUri, timestamp);
+        if (buffer.length < maxLength) {
+            buffer = new byte[Math.max(maxLength, buffer.length * 2)];
+            BUFFER.set(buffer);
+        }
+        int length = render(buffer, method, requestUri, timestamp);
+
+        response.setStatus(status.value());
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setContentLength(length);
+        try {
+            response.getOutputStream().write(buffer, 0, length);
+        } catch (IOException e) {
+            log.debug("Error response could not be written to {}", requestUri, e);
+        }
+        return true;
+    }
+
+    /**
+     * Each char takes at most 6 bytes
+     */
+    private int maxLength(HttpMethod method, String requestUri, String timestamp) {
+        int ordinal = method.ordinal();
+        return prefixes[ordinal].length + separators[ordinal].length + suffixes[ordinal].length
+                + (requestUri.length() + timestamp.length()) * 6;
+    }
+
+    private int render(byte[] buffer, HttpMethod method, String requestUri, String timestamp) {
+        int ordinal = method.ordinal();
+        int position = put(buffer, 0, prefixes[ordinal]);
+        position = putString(buffer, position, requestUriFirst ? requestUri : timestamp);
+        position = put(buffer, position, separators[ordinal]);
+        position = putString(buffer, position, requestUriFirst ? timestamp : requestUri);
+        return put(buffer, position, suffixes[ordinal]);
+    }
+
+    /**
+     * @return true when JSON is the most preferred encoding the client accepts; false when it prefers a binary
+     *         encoding, accepts no JSON, or sends an Accept header that can not be parsed
+     */
+    private static boolean acceptsJson(String accept) {
+        if (accept == null || accept.isEmpty()) {
+            return true;
+        }
+        List<MediaType> accepted;
+        try {
+            accepted = MediaType.parseMediaTypes(accept);
+        } catch (InvalidMediaTypeException e) {
+            return false;
+        }
+        MediaType.sortBySpecificityAndQuality(accepted);
+        for (MediaType mediaType : accepted) {
+            if (mediaType.getQualityValue() <= 0) {
+                continue;
+            }
+            if (mediaType.isCompatibleWith(MediaType.APPLICATION_JSON)) {
+                return true;
+            }
+            if (mediaType.isCompatibleWith(ErrorResponseFormats.APPLICATION_CBOR)
+                    || mediaType.isCompatibleWith(ErrorResponseFormats.APPLICATION_SMILE)) {
+                return false;
+            }
+        }
+        return false;
+    }
+
+    private static int put(byte[] buffer, int position, byte[] bytes) {
+        System.arraycopy(bytes, 0, buffer, position, bytes.length);
+        return position + bytes.length;
+    }
+
+    /**
+     * Encodes a JSON string value as UTF-8 with the same escaping rules as Jackson's default UTF-8 generator, which
+     * also escapes each surrogate char on its own. Each char takes at most 6 bytes, which the caller has reserved.
+     */
+    private static int putString(byte[] buffer, int position, String value) {
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c < 0x80) {
+                if (c >= 0x20 && c != '"' && c != '\\') {
+                    buffer[position++] = (byte) c;
+                } else {
+                    position = putEscaped(buffer, position, c);
+                }
+            } else if (c < 0x800) {
+                buffer[position++] = (byte) (0xC0 | (c >> 6));
+                buffer[position++] = (byte) (0x80 | (c & 0x3F));
+            } else if (Character.isSurrogate(c)) {
+                position = putUnicodeEscape(buffer, position, c);
+            } else {
+                buffer[position++] = (byte) (0xE0 | (c >> 12));
+                buffer[position++] = (byte) (0x80 | ((c >> 6) & 0x3F));
+                buffer[position++] = (byte) (0x80 | (c & 0x3F));
+            }
+        }
+        return position;
+    }
+
+    private static int putEscaped(byte[] buffer, int position, char c) {
+        buffer[position++] = '\\';
+        switch (c) {
+            case '"':
+            case '\\':
+                buffer[position++] = (byte) c;
+                break;
+            case '\b':
+                buffer[position++] = 'b';
+                break;
+            case '\t':
+                buffer[position++] = 't';
+                break;
+            case '\n':
+                buffer[position++] = 'n';
+                break;
+            case '\f':
+                buffer[position++] = 'f';
+                break;
+            case '\r':
+                buffer[position++] = 'r';
+                break;
+            default:
+                return putUnicodeEscape(buffer, position - 1, c);
+        }
+        return position;
+    }
+
+    private static int putUnicodeEscape(byte[] buffer, int position, char c) {
+        buffer[position++] = '\\';
+        buffer[position++] = 'u';
+        buffer[position++] = HEX[(c >> 12) & 0xF];
+        buffer[position++] = HEX[(c >> 8) & 0xF];
+        buffer[position++] = HEX[(c >> 4) & 0xF];
+        buffer[position++] = HEX[c & 0xF];
+        return position;
+    }
+
+    private static byte[] ascii(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static byte[] encode(String value) {
+        byte[] buffer = new byte[value.length() * 6];
+        return Arrays.copyOf(buffer, putString(buffer, 0, value));
+    }
+
+    /**
+     * @return position of the only occurrence of the bytes, -1 when they occur never or more than once
+     */
+    private static int indexOfOnly(byte[] bytes, byte[] part) {
+        int found = -1;
+        for (int i = 0; i + part.length <= bytes.length; i++) {
+            if (Arrays.equals(bytes, i, i + part.length, part, 0, part.length)) {
+                if (found >= 0) {
+                    return -1;
+                }
+                found = i;
+            }
+        }
+        return found;
+    }
+}
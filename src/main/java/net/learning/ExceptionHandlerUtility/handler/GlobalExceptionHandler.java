@@ -1,13 +1,21 @@
 package net.learning.ExceptionHandlerUtility.handler;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.extern.slf4j.Slf4j;
+import net.learning.ExceptionHandlerUtility.circuitbreaker.CircuitOpenException;
 import net.learning.ExceptionHandlerUtility.exceptions.*;
+import net.learning.ExceptionHandlerUtility.model.ErrorCollector;
 import net.learning.ExceptionHandlerUtility.model.ErrorResponse;
 import net.learning.ExceptionHandlerUtility.model.Errors;
 import net.learning.ExceptionHandlerUtility.utils.Constants;
+import net.learning.ExceptionHandlerUtility.utils.ErrorPayloadLimits;
 import net.learning.ExceptionHandlerUtility.utils.ExceptionHandlerHelperUtil;
+import net.learning.ExceptionHandlerUtility.utils.UriTemplates;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.core.Ordered;
 import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -23,7 +31,6 @@ import org.springframework.web.client.ResourceAccessException;
 import org.springframework.web.context.request.ServletWebRequest;
 import org.springframework.web.servlet.NoHandlerFoundException;
 
-import javax.validation.ConstraintViolation;
 import javax.validation.ConstraintViolationException;
 import java.util.List;
 import java.util.Objects;
@@ -37,6 +44,27 @@ import java.util.stream.Collectors;
 @Order(Ordered.HIGHEST_PRECEDENCE)
 public class GlobalExceptionHandler {
 
+    private static final List<Errors> UNAUTHORIZED_ERRORS =
+            List.of(Errors.builder().errorMessage(Constants.UNAUTHORIZED_ERROR_MESSAGE).build());
+    private static final List<Errors> ACCESS_DENIED_ERRORS =
+            List.of(Errors.builder().errorMessage(Constants.ACCESS_DENIED_ERROR_MESSAGE).build());
+    private static final List<Errors> TIMEOUT_ERRORS =
+            List.of(Errors.builder().errorMessage(Constants.TIMEOUT_ERROR_MESSAGE).build());
+
+    private ErrorResponseTemplate unauthorizedTemplate =
+            ErrorResponseTemplate.of(HttpStatus.UNAUTHORIZED, UNAUTHORIZED_ERRORS);
+    private ErrorResponseTemplate accessDeniedTemplate =
+            ErrorResponseTemplate.of(HttpStatus.FORBIDDEN, ACCESS_DENIED_ERRORS);
+    private ErrorResponseTemplate timeoutTemplate =
+            ErrorResponseTemplate.of(HttpStatus.GATEWAY_TIMEOUT, TIMEOUT_ERRORS);
+
+    private HandledErrorListeners handledErrorListeners = HandledErrorListeners.NONE;
+
+    /**
+     * Null until set, then {@link ExceptionHandlerHelperUtil#getErrorPayloadLimits()} applies
+     */
+    private ErrorPayloadLimits errorPayloadLimits;
+
     /**
      * Handler Method to return Error Response Object for ValidationException
      *
@@ -48,14 +76,18 @@ public class GlobalExceptionHandler {
     @ExceptionHandler(ValidationException.class)
     public ResponseEntity<ErrorResponse> handleValidationException(ValidationException validationException,
                                                                          ServletWebRequest servletWebRequest) {
-        return new ResponseEntity<>(
+        long startNanos = System.nanoTime();
+        return observe(validationException, HttpStatus.BAD_REQUEST, validationException.getErrorMessage(),
+                servletWebRequest, startNanos, new ResponseEntity<>(
                 ErrorResponse.builder()
                         .method(Objects.requireNonNull(servletWebRequest.getHttpMethod()))
                         .requestUri(servletWebRequest.getRequest().getRequestURI())
                         .statusCode(HttpStatus.BAD_REQUEST.name())
                         .timestamp(ExceptionHandlerHelperUtil.currentTimeStamp())
                         .errors(validationException.getErrorMessage())
-                        .build(),HttpStatus.BAD_REQUEST);
+                        .truncated(validationException.getTruncated())
+                        .totalErrors(validationException.getTotalErrors())
+                        .build(),HttpStatus.BAD_REQUEST));
     }
 
     /**
@@ -69,14 +101,18 @@ public class GlobalExceptionHandler {
     @ExceptionHandler(DataNotFoundException.class)
     public ResponseEntity<ErrorResponse> handleDataNotFoundException(DataNotFoundException dataNotFoundException,
                                                                            ServletWebRequest servletWebRequest) {
-        return new ResponseEntity<>(
+        long startNanos = System.nanoTime();
+        return observe(dataNotFoundException, HttpStatus.NOT_FOUND, dataNotFoundException.getErrorMessage(),
+                servletWebRequest, startNanos, new ResponseEntity<>(
                 ErrorResponse.builder()
                         .method(Objects.requireNonNull(servletWebRequest.getHttpMethod()))
                         .requestUri(servletWebRequest.getRequest().getRequestURI())
                         .statusCode(HttpStatus.NOT_FOUND.name())
                         .timestamp(ExceptionHandlerHelperUtil.currentTimeStamp())
                         .errors(dataNotFoundException.getErrorMessage())
-                        .build(),HttpStatus.NOT_FOUND);
+                        .truncated(dataNotFoundException.getTruncated())
+                        .totalErrors(dataNotFoundException.getTotalErrors())
+                        .build(),HttpStatus.NOT_FOUND));
     }
 
     /**
@@ -85,19 +121,28 @@ public class GlobalExceptionHandler {
      * @param unAuthorizedException
      *            to take as input
      *
-     * @return the constructed ErrorResponse
+     * @return the constructed ErrorResponse, or null when the pre-encoded body was written to the response
      */
     @ExceptionHandler(UnAuthorizedException.class)
     public ResponseEntity<ErrorResponse> handleUnAuthorizedException(UnAuthorizedException unAuthorizedException,
                                                                            ServletWebRequest servletWebRequest) {
-        return new ResponseEntity<>(
+        long startNanos = System.nanoTime();
+        HttpMethod method = Objects.requireNonNull(servletWebRequest.getHttpMethod());
+        String requestUri = servletWebRequest.getRequest().getRequestURI();
+        String timestamp = ExceptionHandlerHelperUtil.currentTimeStamp();
+        if (unauthorizedTemplate.write(servletWebRequest, method, requestUri, timestamp)) {
+            return observe(unAuthorizedException, HttpStatus.UNAUTHORIZED, UNAUTHORIZED_ERRORS, servletWebRequest,
+                    startNanos, null);
+        }
+        return observe(unAuthorizedException, HttpStatus.UNAUTHORIZED, UNAUTHORIZED_ERRORS, servletWebRequest,
+                startNanos, new ResponseEntity<>(
                 ErrorResponse.builder()
-                        .method(Objects.requireNonNull(servletWebRequest.getHttpMethod()))
-                        .requestUri(servletWebRequest.getRequest().getRequestURI())
+                        .method(method)
+                        .requestUri(requestUri)
                         .statusCode(HttpStatus.UNAUTHORIZED.name())
-                        .timestamp(ExceptionHandlerHelperUtil.currentTimeStamp())
-                        .errors(List.of(Errors.builder().errorMessage(Constants.UNAUTHORIZED_ERROR_MESSAGE).build()))
-                        .build(),HttpStatus.UNAUTHORIZED);
+                        .timestamp(timestamp)
+                        .errors(UNAUTHORIZED_ERRORS)
+                        .build(),HttpStatus.UNAUTHORIZED));
     }
 
     /**
@@ -111,14 +156,16 @@ public class GlobalExceptionHandler {
     @ExceptionHandler(ServerException.class)
     public ResponseEntity<ErrorResponse> handleServerException(ServerException serverException,
                                                                      ServletWebRequest servletWebRequest) {
-        return new ResponseEntity<>(
+        long startNanos = System.nanoTime();
+        return observe(serverException, HttpStatus.INTERNAL_SERVER_ERROR, serverException.getErrorMessage(),
+                servletWebRequest, startNanos, new ResponseEntity<>(
                 ErrorResponse.builder()
                         .method(Objects.requireNonNull(servletWebRequest.getHttpMethod()))
                         .requestUri(servletWebRequest.getRequest().getRequestURI())
                         .statusCode(HttpStatus.INTERNAL_SERVER_ERROR.name())
                         .timestamp(ExceptionHandlerHelperUtil.currentTimeStamp())
                         .errors(serverException.getErrorMessage())
-                        .build(),HttpStatus.INTERNAL_SERVER_ERROR);
+                        .build(),HttpStatus.INTERNAL_SERVER_ERROR));
     }
 
     /**
@@ -132,15 +179,18 @@ public class GlobalExceptionHandler {
     @ExceptionHandler(NoHandlerFoundException.class)
     public ResponseEntity<ErrorResponse> handleAccessDeniedException(NoHandlerFoundException noHandlerFoundException,
                                                                         ServletWebRequest servletWebRequest) {
-        return new ResponseEntity<>(
+        long startNanos = System.nanoTime();
+        List<Errors> errors = List.of(Errors.builder().errorMessage(noHandlerFoundException.getMessage()).build());
+        return observe(noHandlerFoundException, HttpStatus.NOT_FOUND, errors, servletWebRequest, startNanos,
+                new ResponseEntity<>(
                 ErrorResponse.builder()
                         .method(Objects.requireNonNull(servletWebRequest.getHttpMethod()))
                         .requestUri(servletWebRequest.getRequest().getRequestURI())
                         .statusCode(HttpStatus.NOT_FOUND.name())
                         .timestamp(ExceptionHandlerHelperUtil.currentTimeStamp())
-                        .errors(List.of(Errors.builder().errorMessage(noHandlerFoundException.getMessage()).build()))
+                        .errors(errors)
                         .build(),
-                HttpStatus.NOT_FOUND);
+                HttpStatus.NOT_FOUND));
     }
 
     /**
@@ -154,15 +204,22 @@ public class GlobalExceptionHandler {
     @ExceptionHandler({ BindException.class, MethodArgumentNotValidException.class })
     public ResponseEntity<ErrorResponse> handleBindException(BindException bindException,
                                                                 ServletWebRequest servletWebRequest) {
-        return new ResponseEntity<>(
+        long startNanos = System.nanoTime();
+        ErrorCollector collector = ExceptionHandlerHelperUtil.collectValidationErrors(
+                bindException.getBindingResult().getAllErrors(), errorPayloadLimits());
+        List<Errors> errors = collector.getErrors();
+        return observe(bindException, HttpStatus.BAD_REQUEST, errors, servletWebRequest, startNanos,
+                new ResponseEntity<>(
                 ErrorResponse.builder()
                         .method(Objects.requireNonNull(servletWebRequest.getHttpMethod()))
                         .requestUri(servletWebRequest.getRequest().getRequestURI())
                         .statusCode(HttpStatus.BAD_REQUEST.name())
                         .timestamp(ExceptionHandlerHelperUtil.currentTimeStamp())
-                        .errors(ExceptionHandlerHelperUtil.createErrorListFromValidationErrors(bindException.getBindingResult().getAllErrors()))
+                        .errors(errors)
+                        .truncated(ExceptionHandlerHelperUtil.truncatedOf(collector))
+                        .totalErrors(ExceptionHandlerHelperUtil.totalErrorsOf(collector))
                         .build(),
-                HttpStatus.BAD_REQUEST);
+                HttpStatus.BAD_REQUEST));
     }
 
     /**
@@ -171,19 +228,27 @@ public class GlobalExceptionHandler {
      * @param accessDeniedException
      *            to take as input
      *
-     * @return the constructed ErrorResponse
+     * @return the constructed ErrorResponse, or null when the pre-encoded body was written to the response
      */
     @ExceptionHandler({ AccessDeniedException.class })
     public ResponseEntity<ErrorResponse> handleAccessDeniedException(AccessDeniedException accessDeniedException,
                                                                         ServletWebRequest servletWebRequest) {
-
-        return new ResponseEntity<>(ErrorResponse.builder()
-                    .method(Objects.requireNonNull(servletWebRequest.getHttpMethod()))
-                    .requestUri(servletWebRequest.getRequest().getRequestURI())
+        long startNanos = System.nanoTime();
+        HttpMethod method = Objects.requireNonNull(servletWebRequest.getHttpMethod());
+        String requestUri = servletWebRequest.getRequest().getRequestURI();
+        String timestamp = ExceptionHandlerHelperUtil.currentTimeStamp();
+        if (accessDeniedTemplate.write(servletWebRequest, method, requestUri, timestamp)) {
+            return observe(accessDeniedException, HttpStatus.FORBIDDEN, ACCESS_DENIED_ERRORS, servletWebRequest,
+                    startNanos, null);
+        }
+        return observe(accessDeniedException, HttpStatus.FORBIDDEN, ACCESS_DENIED_ERRORS, servletWebRequest,
+                startNanos, new ResponseEntity<>(ErrorResponse.builder()
+                    .method(method)
+                    .requestUri(requestUri)
                     .statusCode(HttpStatus.FORBIDDEN.name())
-                    .timestamp(ExceptionHandlerHelperUtil.currentTimeStamp())
-                    .errors(List.of(Errors.builder().errorMessage(Constants.ACCESS_DENIED_ERROR_MESSAGE).build())).build(),
-                HttpStatus.FORBIDDEN);
+                    .timestamp(timestamp)
+                    .errors(ACCESS_DENIED_ERRORS).build(),
+                HttpStatus.FORBIDDEN));
     }
 
     /**
@@ -199,14 +264,13 @@ public class GlobalExceptionHandler {
             HttpMediaTypeException.class, MissingRequestHeaderException.class, HttpMessageNotReadableException.class })
     public ResponseEntity<ErrorResponse> handleRequestException(Exception exception,
                                                                    ServletWebRequest servletWebRequest) {
+        long startNanos = System.nanoTime();
         List<Errors> errorList;
+        ErrorCollector collector = null;
         if (exception instanceof ConstraintViolationException) {
-            ConstraintViolationException constraintViolationException = (ConstraintViolationException) exception;
-            List<String> errorsMessages = constraintViolationException.getConstraintViolations().stream()
-                    .map(ConstraintViolation::getMessage).collect(Collectors.toList());
-            errorList = errorsMessages.stream().map(
-                            e -> Errors.builder().errorMessage(e).build())
-                    .collect(Collectors.toList());
+            collector = ExceptionHandlerHelperUtil.collectConstraintViolations(
+                    ((ConstraintViolationException) exception).getConstraintViolations(), errorPayloadLimits());
+            errorList = collector.getErrors();
         } else if (exception instanceof HttpMessageNotReadableException) {
             errorList = List.of(Errors.builder()
                     .errorMessage(exception.getMessage().split(Constants.SEPARATOR)[0]).build());
@@ -214,13 +278,16 @@ public class GlobalExceptionHandler {
             errorList = List.of(Errors.builder()
                     .errorMessage(exception.getMessage()).build());
         }
-        return new ResponseEntity<>(ErrorResponse.builder()
+        return observe(exception, HttpStatus.BAD_REQUEST, errorList, servletWebRequest, startNanos,
+                new ResponseEntity<>(ErrorResponse.builder()
                 .method(HttpMethod.valueOf(ExceptionHandlerHelperUtil.validateServletWebRequestForHttpMethod(servletWebRequest)))
                 .requestUri(ExceptionHandlerHelperUtil.validateServletWebRequestForUri(servletWebRequest))
                 .statusCode(HttpStatus.BAD_REQUEST.name())
                 .timestamp(ExceptionHandlerHelperUtil.currentTimeStamp())
                 .errors(errorList)
-                .build(), HttpStatus.BAD_REQUEST);
+                .truncated(ExceptionHandlerHelperUtil.truncatedOf(collector))
+                .totalErrors(ExceptionHandlerHelperUtil.totalErrorsOf(collector))
+                .build(), HttpStatus.BAD_REQUEST));
     }
 
     /**
@@ -234,13 +301,16 @@ public class GlobalExceptionHandler {
     @ExceptionHandler(ResourceAccessException.class)
     public ResponseEntity<ErrorResponse> handleResourceAccessException(ResourceAccessException resourceAccessException,
                                                                           ServletWebRequest servletWebRequest) {
-        return new ResponseEntity<>(ErrorResponse.builder()
+        long startNanos = System.nanoTime();
+        List<Errors> errors = List.of(Errors.builder().errorMessage(resourceAccessException.getMessage()).build());
+        return observe(resourceAccessException, HttpStatus.INTERNAL_SERVER_ERROR, errors, servletWebRequest,
+                startNanos, new ResponseEntity<>(ErrorResponse.builder()
                 .method(HttpMethod.valueOf(ExceptionHandlerHelperUtil.validateServletWebRequestForHttpMethod(servletWebRequest)))
                 .requestUri(ExceptionHandlerHelperUtil.validateServletWebRequestForUri(servletWebRequest))
                 .statusCode(HttpStatus.INTERNAL_SERVER_ERROR.name())
                 .timestamp(ExceptionHandlerHelperUtil.currentTimeStamp())
-                .errors(List.of(Errors.builder().errorMessage(resourceAccessException.getMessage()).build())).build(),
-                HttpStatus.INTERNAL_SERVER_ERROR);
+                .errors(errors).build(),
+                retryAfterHeaders(resourceAccessException), HttpStatus.INTERNAL_SERVER_ERROR));
     }
 
     /**
@@ -271,22 +341,125 @@ public class GlobalExceptionHandler {
      * @param timeOutException
      *            take any instance of Exception as input
      *
-     * @return the constructed ErrorResponse
+     * @return the constructed ErrorResponse, or null when the pre-encoded body was written to the response
      */
     @ExceptionHandler(TimeOutException.class)
     public ResponseEntity<ErrorResponse> handleException(TimeOutException timeOutException,
                                                          ServletWebRequest servletWebRequest) {
-
-        return new ResponseEntity<>(
+        long startNanos = System.nanoTime();
+        String timestamp = ExceptionHandlerHelperUtil.currentTimeStamp();
+        HttpMethod method = HttpMethod.valueOf(ExceptionHandlerHelperUtil.validateServletWebRequestForHttpMethod(servletWebRequest));
+        String requestUri = ExceptionHandlerHelperUtil.validateServletWebRequestForUri(servletWebRequest);
+        if (timeoutTemplate.write(servletWebRequest, method, requestUri, timestamp)) {
+            return observe(timeOutException, HttpStatus.GATEWAY_TIMEOUT, TIMEOUT_ERRORS, servletWebRequest,
+                    startNanos, null);
+        }
+        return observe(timeOutException, HttpStatus.GATEWAY_TIMEOUT, TIMEOUT_ERRORS, servletWebRequest, startNanos,
+                new ResponseEntity<>(
                 ErrorResponse.builder()
-                        .timestamp(ExceptionHandlerHelperUtil.currentTimeStamp())
-                        .method(HttpMethod.valueOf(ExceptionHandlerHelperUtil.validateServletWebRequestForHttpMethod(servletWebRequest)))
+                        .timestamp(timestamp)
+                        .method(method)
                         .statusCode(HttpStatus.GATEWAY_TIMEOUT.name())
-                        .requestUri(ExceptionHandlerHelperUtil.validateServletWebRequestForUri(servletWebRequest))
-                        .errors(List.of(Errors.builder().errorMessage(Constants.TIMEOUT_ERROR_MESSAGE).build()))
+                        .requestUri(requestUri)
+                        .errors(TIMEOUT_ERRORS)
                         .build(),
-                HttpStatus.GATEWAY_TIMEOUT);
+                HttpStatus.GATEWAY_TIMEOUT));
+
+    }
+
+    /**
+     * Registers the listeners notified after every handled error
+     *
+     * @param listeners
+     *            to take as input
+     */
+    public void setHandledErrorListeners(List<HandledErrorListener> listeners) {
+        this.handledErrorListeners = new HandledErrorListeners(listeners);
+    }
+
+    /**
+     * Registers the listener beans, looked up when the first error is handled
+     *
+     * @param listeners
+     *            to take as input
+     */
+    @Autowired
+    public void setHandledErrorListeners(ObjectProvider<HandledErrorListener> listeners) {
+        this.handledErrorListeners = HandledErrorListeners.lazy(
+                () -> listeners.orderedStream().collect(Collectors.toList()));
+    }
 
+    /**
+     * Pre-encodes the constant 401, 403 and 504 bodies with the given mapper, so they are written like every other
+     * error body
+     *
+     * @param objectMapper
+     *            to take as input
+     */
+    public void setObjectMapper(ObjectMapper objectMapper) {
+        this.unauthorizedTemplate = ErrorResponseTemplate.of(objectMapper, HttpStatus.UNAUTHORIZED, UNAUTHORIZED_ERRORS);
+        this.accessDeniedTemplate = ErrorResponseTemplate.of(objectMapper, HttpStatus.FORBIDDEN, ACCESS_DENIED_ERRORS);
+        this.timeoutTemplate = ErrorResponseTemplate.of(objectMapper, HttpStatus.GATEWAY_TIMEOUT, TIMEOUT_ERRORS);
+    }
+
+    /**
+     * Takes the application's {@link ObjectMapper}, the one the error response converter writes with
+     *
+     * @param objectMapper
+     *            to take as input
+     */
+    @Autowired
+    public void setObjectMapper(ObjectProvider<ObjectMapper> objectMapper) {
+        ObjectMapper mapper = objectMapper.getIfAvailable();
+        if (mapper != null) {
+            setObjectMapper(mapper);
+        }
+    }
+
+    /**
+     * Sets the limits applied to bind errors and constraint violations
+     *
+     * @param errorPayloadLimits
+     *            to take as input
+     */
+    public void setErrorPayloadLimits(ErrorPayloadLimits errorPayloadLimits) {
+        this.errorPayloadLimits = errorPayloadLimits;
+    }
+
+    /**
+     * Takes the limits from the {@link ErrorPayloadLimits} bean, the auto-configured one or a bean of the application
+     *
+     * @param errorPayloadLimits
+     *            to take as input
+     */
+    @Autowired
+    public void setErrorPayloadLimits(ObjectProvider<ErrorPayloadLimits> errorPayloadLimits) {
+        this.errorPayloadLimits = errorPayloadLimits.getIfUnique();
+    }
+
+    private ErrorPayloadLimits errorPayloadLimits() {
+        ErrorPayloadLimits limits = errorPayloadLimits;
+        return limits != null ? limits : ExceptionHandlerHelperUtil.getErrorPayloadLimits();
+    }
+
+    private static HttpHeaders retryAfterHeaders(ResourceAccessException resourceAccessException) {
+        if (!(resourceAccessException instanceof CircuitOpenException)) {
+            return null;
+        }
+        HttpHeaders headers = new HttpHeaders();
+        headers.set(HttpHeaders.RETRY_AFTER,
+                Long.toString(ExceptionHandlerHelperUtil.retryAfterSeconds((CircuitOpenException) resourceAccessException)));
+        return headers;
+    }
+
+    private <T> T observe(Throwable exception, HttpStatus status, List<Errors> errors,
+                          ServletWebRequest servletWebRequest, long startNanos, T response) {
+        if (!handledErrorListeners.isEmpty()) {
+            handledErrorListeners.onErrorHandled(exception, status,
+                    UriTemplates.of(servletWebRequest != null ? servletWebRequest.getRequest() : null), errors,
+                    System.nanoTime() - startNanos);
+        }
+        return response;
     }
 
 }
\ No newline at end of file
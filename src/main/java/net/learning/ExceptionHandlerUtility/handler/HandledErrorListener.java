@@ -0,0 +1,29 @@
+package net.learning.ExceptionHandlerUtility.handler;
+
+import net.learning.ExceptionHandlerUtility.model.Errors;
+import org.springframework.http.HttpStatus;
+
+import java.util.List;
+
+/**
+ * Callback invoked after an exception was turned into an ErrorResponse. Implementations run on the request thread,
+ * so they must be cheap and must not block.
+ */
+@FunctionalInterface
+public interface HandledErrorListener {
+
+    /**
+     * @param exception
+     *            the handled exception
+     * @param status
+     *            the HTTP status of the response
+     * @param uriTemplate
+     *            the matched request mapping pattern, never the raw request URI
+     * @param errors
+     *            the errors written to the response
+     * @param latencyNanos
+     *            time spent in the handler
+     */
+    void onErrorHandled(Throwable exception, HttpStatus status, String uriTemplate, List<Errors> errors,
+                        long latencyNanos);
+}
@@ -0,0 +1,77 @@
+package net.learning.ExceptionHandlerUtility.handler;
+
+import lombok.extern.slf4j.Slf4j;
+import net.learning.ExceptionHandlerUtility.model.Errors;
+import org.springframework.http.HttpStatus;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * Notifies a fixed set of {@link HandledErrorListener}s in order. A failing listener is logged and never changes the
+ * response. The set can be resolved {@link #lazy lazily}, so listener beans are only created once the first error is
+ * handled. When that lookup fails, it is logged once and no listener is notified.
+ */
+@Slf4j
+public final class HandledErrorListeners implements HandledErrorListener {
+
+    public static final HandledErrorListeners NONE = new HandledErrorListeners(List.of());
+
+    private volatile HandledErrorListener[] listeners;
+    private Supplier<? extends Collection<? extends HandledErrorListener>> supplier;
+
+    public HandledErrorListeners(Collection<? extends HandledErrorListener> listeners) {
+        this.listeners = listeners.toArray(new HandledErrorListener[0]);
+    }
+
+    private HandledErrorListeners(Supplier<? extends Collection<? extends HandledErrorListener>> supplier) {
+        this.supplier = supplier;
+    }
+
+    /**
+     * @param supplier
+     *            called once, when the first error is handled, even when it throws
+     *
+     * @return listeners that are looked up on first use
+     */
+    public static HandledErrorListeners lazy(Supplier<? extends Collection<? extends HandledErrorListener>> supplier) {
+        return new HandledErrorListeners(supplier);
+    }
+
+    public boolean isEmpty() {
+        return listeners().length == 0;
+    }
+
+    @Override
+    public void onErrorHandled(Throwable exception, HttpStatus status, String uriTemplate, List<Errors> errors,
+                               long latencyNanos) {
+        for (HandledErrorListener listener : listeners()) {
+            try {
+                listener.onErrorHandled(exception, status, uriTemplate, errors, latencyNanos);
+            } catch (RuntimeException e) {
+                log.warn("Handled error listener {} failed", listener.getClass().getName(), e);
+            }
+        }
+    }
+
+    private HandledErrorListener[] listeners() {
+        HandledErrorListener[] resolved = listeners;
+        if (resolved == null) {
+            synchronized (this) {
+                resolved = listeners;
+                if (resolved == null) {
+                    try {
+                        resolved = supplier.get().toArray(new HandledErrorListener[0]);
+                    } catch (RuntimeException e) {
+                        log.error("Handled error listeners could not be created, none will be notified", e);
+                        resolved = new HandledErrorListener[0];
+                    }
+                    listeners = resolved;
+                    supplier = null;
+                }
+            }
+        }
+        return resolved;
+    }
+}
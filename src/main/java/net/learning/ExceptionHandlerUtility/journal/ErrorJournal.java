@@ -0,0 +1,227 @@
+package net.learning.ExceptionHandlerUtility.journal;
+
+import lombok.extern.slf4j.Slf4j;
+import net.learning.ExceptionHandlerUtility.handler.HandledErrorListener;
+import net.learning.ExceptionHandlerUtility.model.Errors;
+import org.springframework.http.HttpStatus;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Append-only journal of handled errors for post-mortem analysis, surviving restarts. Request threads only offer the
+ * event to a bounded queue and never touch the disk; when the queue is full the event is dropped and counted. A
+ * single writer thread encodes the events as {@link JournalRecord}s into memory-mapped segment files of a fixed size,
+ * starts a new segment when one is full and deletes the oldest beyond {@code maxSegments}. Read the files with
+ * {@link ErrorJournalReader}.
+ */
+@Slf4j
+public class ErrorJournal implements HandledErrorListener, Closeable {
+
+    static final String SEGMENT_PREFIX = "errors-";
+    static final String SEGMENT_SUFFIX = ".journal";
+    static final int MAGIC = 0x45484A31;
+
+    private static final long FORCE_INTERVAL_MILLIS = 1000;
+
+    /**
+     * Wakes the writer on close; never written
+     */
+    private static final Event CLOSE = new Event(0, 0, 0, null, null, null);
+
+    private final Path directory;
+    private final int segmentSize;
+    private final int maxSegments;
+    private final BlockingQueue<Event> queue;
+    private final LongAdder dropped = new LongAdder();
+    private final Thread writer;
+
+    private volatile boolean closed;
+    private FileChannel channel;
+    private MappedByteBuffer segment;
+    private long segmentSequence;
+
+    /**
+     * @param directory
+     *            where segment files are written, created when missing
+     * @param segmentSize
+     *            size of each segment file in bytes
+     * @param maxSegments
+     *            number of segment files kept
+     * @param queueCapacity
+     *            number of events that may wait for the writer
+     *
+     * @throws IOException
+     *             when the directory can not be created
+     */
+    public ErrorJournal(Path directory, int segmentSize, int maxSegments, int queueCapacity) throws IOException {
+        if (segmentSize < 64 * 1024 || maxSegments < 1) {
+            throw new IllegalArgumentException("segmentSize must be at least 64 KiB and maxSegments positive");
+        }
+        this.directory = Files.createDirectories(directory);
+        this.segmentSize = segmentSize;
+        this.maxSegments = maxSegments;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.writer = new Thread(this::run, "exception-handler-error-journal");
+        this.writer.setDaemon(true);
+        this.writer.start();
+    }
+
+    @Override
+    public void onErrorHandled(Throwable exception, HttpStatus status, String uriTemplate, List<Errors> errors,
+                               long latencyNanos) {
+        if (closed || !queue.offer(new Event(System.currentTimeMillis(), status.value(), latencyNanos,
+                exception.getClass(), uriTemplate, firstMessage(errors)))) {
+            dropped.increment();
+        }
+    }
+
+    /**
+     * @return number of events not journaled because the queue was full
+     */
+    public long getDropped() {
+        return dropped.sum();
+    }
+
+    /**
+     * Writes the queued events, flushes the current segment and stops the writer. The writer is woken with a marker
+     * event rather than interrupted: an interrupt closes the segment channel under a rotation in progress and loses
+     * what is still queued. With a full queue the writer notices within one poll interval instead.
+     */
+    @Override
+    public void close() {
+        closed = true;
+        queue.offer(CLOSE);
+        try {
+            writer.join(TimeUnit.SECONDS.toMillis(5));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void run() {
+        long lastForce = System.currentTimeMillis();
+        boolean dirty = false;
+        try {
+            while (!closed || !queue.isEmpty()) {
+                Event event = null;
+                try {
+                    event = queue.poll(FORCE_INTERVAL_MILLIS, TimeUnit.MILLISECONDS);
+                } catch (InterruptedException e) {
+                    // the loop condition decides whether to stop
+                }
+                if (event != null && event != CLOSE) {
+                    append(event);
+                    dirty = true;
+                }
+                if (dirty && System.currentTimeMillis() - lastForce >= FORCE_INTERVAL_MILLIS) {
+                    segment.force();
+                    lastForce = System.currentTimeMillis();
+                    dirty = false;
+                }
+            }
+        } catch (IOException | RuntimeException e) {
+            log.warn("Error journal in {} stopped", directory, e);
+            closed = true;
+        } finally {
+            closeSegment();
+        }
+    }
+
+    private void append(Event event) throws IOException {
+        byte[] exception = JournalRecord.encode(event.exceptionType.getName());
+        byte[] uriTemplate = JournalRecord.encode(event.uriTemplate);
+        byte[] message = JournalRecord.encode(event.message);
+        int size = JournalRecord.size(exception, uriTemplate, message);
+        if (segment == null || segment.remaining() < size + Integer.BYTES) {
+            rotate();
+        }
+        JournalRecord.write(segment, event.epochMillis, event.status, event.latencyNanos, exception, uriTemplate,
+                message);
+    }
+
+    private void rotate() throws IOException {
+        closeSegment();
+        Path file = directory.resolve(String.format("%s%013d-%04d%s", SEGMENT_PREFIX, System.currentTimeMillis(),
+                segmentSequence++ % 10000, SEGMENT_SUFFIX));
+        channel = FileChannel.open(file, StandardOpenOption.CREATE_NEW, StandardOpenOption.READ,
+                StandardOpenOption.WRITE);
+        segment = channel.map(FileChannel.MapMode.READ_WRITE, 0, segmentSize);
+        segment.putInt(MAGIC);
+        deleteOldSegments();
+    }
+
+    private void closeSegment() {
+        if (segment != null) {
+            segment.force();
+            segment = null;
+        }
+        if (channel != null) {
+            try {
+                channel.close();
+            } catch (IOException e) {
+                log.debug("Failed to close journal segment", e);
+            }
+            channel = null;
+        }
+    }
+
+    private void deleteOldSegments() throws IOException {
+        List<Path> segments = segments(directory);
+        for (int i = 0; i < segments.size() - maxSegments; i++) {
+            Files.deleteIfExists(segments.get(i));
+        }
+    }
+
+    /**
+     * @return the segment files of the directory, oldest first
+     */
+    static List<Path> segments(Path directory) throws IOException {
+        List<Path> segments = new ArrayList<>();
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(directory,
+                SEGMENT_PREFIX + "*" + SEGMENT_SUFFIX)) {
+            stream.forEach(segments::add);
+        }
+        segments.sort(null);
+        return segments;
+    }
+
+    private static String firstMessage(List<Errors> errors) {
+        if (errors == null || errors.isEmpty() || errors.get(0) == null) {
+            return null;
+        }
+        return errors.get(0).getErrorMessage();
+    }
+
+    private static final class Event {
+
+        private final long epochMillis;
+        private final int status;
+        private final long latencyNanos;
+        private final Class<?> exceptionType;
+        private final String uriTemplate;
+        private final String message;
+
+        private Event(long epochMillis, int status, long latencyNanos, Class<?> exceptionType, String uriTemplate,
+                      String message) {
+            this.epochMillis = epochMillis;
+            this.status = status;
+            this.latencyNanos = latencyNanos;
+            this.exceptionType = exceptionType;
+            this.uriTemplate = uriTemplate;
+            this.message = message;
+        }
+    }
+}
@@ -0,0 +1,160 @@
+package net.learning.ExceptionHandlerUtility.journal;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+/**
+ * Offline reader of the segment files written by {@link ErrorJournal}. Segments are mapped read-only and read
+ * oldest first, so a live journal can be read while the service is running. Can be run from the command line:
+ * <pre>
+ * java -cp exception-handler-utility.jar net.learning.ExceptionHandlerUtility.journal.ErrorJournalReader error-journal \
+ *     --from 2024-05-01T10:00:00Z --to 2024-05-01T11:00:00Z --status 500 --exception Timeout --aggregate
+ * </pre>
+ */
+public class ErrorJournalReader {
+
+    private static final String USAGE = "Usage: ErrorJournalReader <directory> [--from <instant>] [--to <instant>] "
+            + "[--status <code>] [--exception <name part>] [--limit <n>] [--aggregate]";
+
+    private final Path directory;
+
+    public ErrorJournalReader(Path directory) {
+        this.directory = directory;
+    }
+
+    /**
+     * Passes every record to the consumer, oldest first
+     *
+     * @throws IOException
+     *             when a segment can not be read
+     */
+    public void forEach(Consumer<JournalRecord> consumer) throws IOException {
+        for (Path segment : ErrorJournal.segments(directory)) {
+            MappedByteBuffer buffer;
+            try (FileChannel channel = FileChannel.open(segment, StandardOpenOption.READ)) {
+                buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            }
+            if (buffer.remaining() < Integer.BYTES || buffer.getInt() != ErrorJournal.MAGIC) {
+                continue;
+            }
+            for (JournalRecord record = JournalRecord.read(buffer); record != null;
+                 record = JournalRecord.read(buffer)) {
+                consumer.accept(record);
+            }
+        }
+    }
+
+    /**
+     * @return the records matching the filter, oldest first, at most limit of them
+     */
+    public List<JournalRecord> read(Predicate<JournalRecord> filter, int limit) throws IOException {
+        List<JournalRecord> records = new ArrayList<>();
+        forEach(record -> {
+            if (records.size() < limit && filter.test(record)) {
+                records.add(record);
+            }
+        });
+        return records;
+    }
+
+    /**
+     * @return number of records matching the filter per exception type and status, most frequent first
+     */
+    public Map<String, Long> aggregate(Predicate<JournalRecord> filter) throws IOException {
+        Map<String, Long> counts = new LinkedHashMap<>();
+        forEach(record -> {
+            if (filter.test(record)) {
+                counts.merge(record.getException() + " " + record.getStatus(), 1L, Long::sum);
+            }
+        });
+        Map<String, Long> sorted = new LinkedHashMap<>();
+        counts.entrySet().stream()
+                .sorted(Map.Entry.<String, Long>comparingByValue(Comparator.reverseOrder()))
+                .forEach(entry -> sorted.put(entry.getKey(), entry.getValue()));
+        return sorted;
+    }
+
+    /**
+     * @return a filter on the time range, status and exception type, each of them optional
+     */
+    public static Predicate<JournalRecord> filter(Instant from, Instant to, Integer status, String exception) {
+        long fromMillis = from != null ? from.toEpochMilli() : Long.MIN_VALUE;
+        long toMillis = to != null ? to.toEpochMilli() : Long.MAX_VALUE;
+        return record -> record.getEpochMillis() >= fromMillis && record.getEpochMillis() < toMillis
+                && (status == null || record.getStatus() == status)
+                && (exception == null || (record.getException() != null && record.getException().contains(exception)));
+    }
+
+    public static void main(String[] args) throws IOException {
+        System.exit(run(args, System.out, System.err));
+    }
+
+    static int run(String[] args, PrintStream out, PrintStream err) throws IOException {
+        if (args.length == 0) {
+            err.println(USAGE);
+            return 2;
+        }
+        Instant from = null;
+        Instant to = null;
+        Integer status = null;
+        String exception = null;
+        int limit = Integer.MAX_VALUE;
+        boolean aggregate = false;
+        try {
+            for (int i = 1; i < args.length; i++) {
+                switch (args[i]) {
+                    case "--from":
+                        from = Instant.parse(args[++i]);
+                        break;
+                    case "--to":
+                        to = Instant.parse(args[++i]);
+                        break;
+                    case "--status":
+                        status = Integer.valueOf(args[++i]);
+                        break;
+                    case "--exception":
+                        exception = args[++i];
+                        break;
+                    case "--limit":
+                        limit = Integer.parseInt(args[++i]);
+                        break;
+                    case "--aggregate":
+                        aggregate = true;
+                        break;
+                    default:
+                        err.println(USAGE);
+                        return 2;
+                }
+            }
+        } catch (RuntimeException e) {
+            err.println(USAGE);
+            return 2;
+        }
+        ErrorJournalReader reader = new ErrorJournalReader(Paths.get(args[0]));
+        Predicate<JournalRecord> filter = filter(from, to, status, exception);
+        if (aggregate) {
+            reader.aggregate(filter).forEach((key, count) -> out.println(count + "\t" + key));
+        } else {
+            for (JournalRecord record : reader.read(filter, limit)) {
+                out.println(record.getTimestamp() + "\t" + record.getStatus() + "\t" + record.getException() + "\t"
+                        + record.getUriTemplate() + "\t" + record.getLatencyNanos() / 1000 + "us\t"
+                        + record.getMessage());
+            }
+        }
+        return 0;
+    }
+}
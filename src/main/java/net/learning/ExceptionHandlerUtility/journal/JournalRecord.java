@@ -0,0 +1,127 @@
+package net.learning.ExceptionHandlerUtility.journal;
+
+import lombok.Getter;
+import lombok.ToString;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+
+/**
+ * One handled error in the journal. Encoded as
+ * {@code int length | long epochMillis | short status | long latencyNanos | string exception | string uriTemplate |
+ * string message}, where each string is a short byte count followed by UTF-8 bytes and null is written as -1, padded
+ * to a multiple of 4 bytes so every length is an aligned int. A length of 0 marks the end of the data in a segment.
+ * The length is written last, so a reader of a live segment never sees a record whose body is still being written.
+ */
+@Getter
+@ToString
+public class JournalRecord {
+
+    /**
+     * Characters kept of each string field
+     */
+    static final int MAX_STRING_LENGTH = 512;
+
+    private static final int FIXED_SIZE = Integer.BYTES + Long.BYTES + Short.BYTES + Long.BYTES + 3 * Short.BYTES;
+
+    private final long epochMillis;
+    private final int status;
+    private final long latencyNanos;
+    private final String exception;
+    private final String uriTemplate;
+    private final String message;
+
+    public JournalRecord(long epochMillis, int status, long latencyNanos, String exception, String uriTemplate,
+                         String message) {
+        this.epochMillis = epochMillis;
+        this.status = status;
+        this.latencyNanos = latencyNanos;
+        this.exception = exception;
+        this.uriTemplate = uriTemplate;
+        this.message = message;
+    }
+
+    public Instant getTimestamp() {
+        return Instant.ofEpochMilli(epochMillis);
+    }
+
+    /**
+     * @return the encoded size of a record with the given encoded strings, padding included
+     */
+    static int size(byte[] exception, byte[] uriTemplate, byte[] message) {
+        int size = FIXED_SIZE + length(exception) + length(uriTemplate) + length(message);
+        return (size + Integer.BYTES - 1) & -Integer.BYTES;
+    }
+
+    static byte[] encode(String value) {
+        if (value == null) {
+            return null;
+        }
+        String kept = value.length() > MAX_STRING_LENGTH ? value.substring(0, MAX_STRING_LENGTH) : value;
+        return kept.getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Writes the record at the buffer's position, which must have {@link #size} bytes left. The body goes first and
+     * the length last, into the slot that still reads 0, so the record only becomes visible once it is complete.
+     */
+    static void write(ByteBuffer buffer, long epochMillis, int status, long latencyNanos, byte[] exception,
+                      byte[] uriTemplate, byte[] message) {
+        int start = buffer.position();
+        int size = size(exception, uriTemplate, message);
+        buffer.position(start + Integer.BYTES);
+        buffer.putLong(epochMillis);
+        buffer.putShort((short) status);
+        buffer.putLong(latencyNanos);
+        putString(buffer, exception);
+        putString(buffer, uriTemplate);
+        putString(buffer, message);
+        buffer.position(start + size);
+        buffer.putInt(start, size);
+    }
+
+    /**
+     * @return the record at the buffer's position, or null at the end of the data
+     */
+    static JournalRecord read(ByteBuffer buffer) {
+        if (buffer.remaining() < Integer.BYTES) {
+            return null;
+        }
+        int start = buffer.position();
+        int length = buffer.getInt();
+        if (length < FIXED_SIZE || length - Integer.BYTES > buffer.remaining()) {
+            return null;
+        }
+        long epochMillis = buffer.getLong();
+        int status = buffer.getShort();
+        long latencyNanos = buffer.getLong();
+        JournalRecord record = new JournalRecord(epochMillis, status, latencyNanos, getString(buffer),
+                getString(buffer), getString(buffer));
+        buffer.position(start + length);
+        return record;
+    }
+
+    private static int length(byte[] value) {
+        return value == null ? 0 : value.length;
+    }
+
+    private static void putString(ByteBuffer buffer, byte[] value) {
+        if (value == null) {
+            buffer.putShort((short) -1);
+        } else {
+            buffer.putShort((short) value.length);
+            buffer.put(value);
+        }
+    }
+
+    private static String getString(ByteBuffer buffer) {
+        int length = buffer.getShort();
+        if (length < 0) {
+            return null;
+        }
+        byte[] bytes = new byte[length];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,33 @@
+package net.learning.ExceptionHandlerUtility.mapping;
+
+import lombok.Getter;
+import net.learning.ExceptionHandlerUtility.model.Errors;
+import org.springframework.http.HttpStatus;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * HTTP status and errors to render for one exception type
+ */
+@Getter
+public final class ErrorMapping {
+
+    private final HttpStatus status;
+    private final Function<Throwable, List<Errors>> errorsFunction;
+
+    ErrorMapping(HttpStatus status, Function<Throwable, List<Errors>> errorsFunction) {
+        this.status = status;
+        this.errorsFunction = errorsFunction;
+    }
+
+    /**
+     * @param throwable
+     *            the exception being handled, an instance of the mapped type
+     *
+     * @return the errors to render for it
+     */
+    public List<Errors> errorsFor(Throwable throwable) {
+        return errorsFunction.apply(throwable);
+    }
+}
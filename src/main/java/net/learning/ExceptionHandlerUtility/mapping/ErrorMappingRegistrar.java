@@ -0,0 +1,11 @@
+package net.learning.ExceptionHandlerUtility.mapping;
+
+/**
+ * Callback for consumers to contribute their exception mappings. Every registrar bean in the application context
+ * is applied to the {@link ErrorMappingRegistry} at startup.
+ */
+@FunctionalInterface
+public interface ErrorMappingRegistrar {
+
+    void registerErrorMappings(ErrorMappingRegistry registry);
+}
@@ -0,0 +1,132 @@
+package net.learning.ExceptionHandlerUtility.mapping;
+
+import net.learning.ExceptionHandlerUtility.model.DataInputs;
+import net.learning.ExceptionHandlerUtility.model.Errors;
+import org.springframework.http.HttpStatus;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * Programmatic mapping of exception classes to an HTTP status and errors. A thrown exception resolves to the mapping
+ * of its own class or of its closest registered superclass. The result of that walk is cached per class in a
+ * {@link ClassValue}, so a lookup on the request path is a single constant time read. Registering a mapping drops
+ * the cache, which is meant to happen at startup.
+ */
+public class ErrorMappingRegistry {
+
+    private static final ErrorMapping NONE = new ErrorMapping(null, throwable -> null);
+
+    private final Map<Class<?>, ErrorMapping> mappings = new ConcurrentHashMap<>();
+    private volatile ClassValue<ErrorMapping> resolved = newCache();
+
+    /**
+     * Maps an exception type to a constant message
+     *
+     * @param exceptionType
+     *            the type and its subclasses to map
+     * @param status
+     *            HTTP status of the response
+     * @param errorMessage
+     *            the single error message of the response
+     *
+     * @return this registry
+     */
+    public ErrorMappingRegistry register(Class<? extends Throwable> exceptionType, HttpStatus status,
+                                         String errorMessage) {
+        List<Errors> errors = List.of(Errors.builder().errorMessage(errorMessage).build());
+        return put(exceptionType, new ErrorMapping(status, throwable -> errors));
+    }
+
+    /**
+     * Maps an exception type to a message derived from the exception
+     *
+     * @param exceptionType
+     *            the type and its subclasses to map
+     * @param status
+     *            HTTP status of the response
+     * @param messageFunction
+     *            supplies the single error message of the response
+     *
+     * @return this registry
+     */
+    public <T extends Throwable> ErrorMappingRegistry register(Class<T> exceptionType, HttpStatus status,
+                                                               Function<? super T, String> messageFunction) {
+        return put(exceptionType, new ErrorMapping(status, throwable -> List.of(Errors.builder()
+                .errorMessage(messageFunction.apply(exceptionType.cast(throwable))).build())));
+    }
+
+    /**
+     * Maps an exception type to a list of errors derived from the exception
+     *
+     * @param exceptionType
+     *            the type and its subclasses to map
+     * @param status
+     *            HTTP status of the response
+     * @param errorsFunction
+     *            supplies the errors of the response
+     *
+     * @return this registry
+     */
+    public <T extends Throwable> ErrorMappingRegistry registerErrors(Class<T> exceptionType, HttpStatus status,
+                                                                     Function<? super T, List<Errors>> errorsFunction) {
+        return put(exceptionType, new ErrorMapping(status, throwable -> errorsFunction.apply(exceptionType.cast(throwable))));
+    }
+
+    /**
+     * Maps a custom exception to a status, rendering the errors it carries
+     *
+     * @param exceptionType
+     *            the type and its subclasses to map
+     * @param status
+     *            HTTP status of the response
+     *
+     * @return this registry
+     */
+    public ErrorMappingRegistry register(Class<? extends DataInputs> exceptionType, HttpStatus status) {
+        return put(exceptionType, new ErrorMapping(status, throwable -> ((DataInputs) throwable).getErrorMessage()));
+    }
+
+    /**
+     * To find the mapping that applies to an exception type
+     *
+     * @param exceptionType
+     *            class of the thrown exception
+     *
+     * @return the mapping of the type or its closest mapped superclass, null when there is none
+     */
+    public ErrorMapping resolve(Class<?> exceptionType) {
+        ErrorMapping mapping = resolved.get(exceptionType);
+        return mapping == NONE ? null : mapping;
+    }
+
+    /**
+     * @return true when no mapping has been registered
+     */
+    public boolean isEmpty() {
+        return mappings.isEmpty();
+    }
+
+    private ErrorMappingRegistry put(Class<? extends Throwable> exceptionType, ErrorMapping mapping) {
+        mappings.put(exceptionType, mapping);
+        resolved = newCache();
+        return this;
+    }
+
+    private ClassValue<ErrorMapping> newCache() {
+        return new ClassValue<>() {
+            @Override
+            protected ErrorMapping computeValue(Class<?> type) {
+                for (Class<?> current = type; current != null && current != Object.class; current = current.getSuperclass()) {
+                    ErrorMapping mapping = mappings.get(current);
+                    if (mapping != null) {
+                        return mapping;
+                    }
+                }
+                return NONE;
+            }
+        };
+    }
+}
@@ -0,0 +1,85 @@
+package net.learning.ExceptionHandlerUtility.metrics;
+
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import org.springframework.http.HttpStatus;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+/**
+ * Lock-free map of one value per exception type, HTTP status and URI template. The number of distinct URI templates
+ * is capped: once {@code maxSeries} series exist, new templates are folded into {@link #OTHER}, so a scan of random
+ * paths can not grow the map or the metric tag space without bound.
+ *
+ * @param <T>
+ *            the value kept per series
+ */
+public final class ErrorSeries<T> {
+
+    /**
+     * URI template of the series that collects everything beyond the cap
+     */
+    public static final String OTHER = "OTHER";
+
+    private final ConcurrentHashMap<Key, T> series = new ConcurrentHashMap<>();
+    private final AtomicInteger size = new AtomicInteger();
+    private final int maxSeries;
+    private final Function<Key, T> factory;
+
+    public ErrorSeries(int maxSeries, Function<Key, T> factory) {
+        if (maxSeries < 1) {
+            throw new IllegalArgumentException("maxSeries must be positive");
+        }
+        this.maxSeries = maxSeries;
+        this.factory = factory;
+    }
+
+    /**
+     * @return the value of the series, created on first use
+     */
+    public T get(Class<?> exceptionType, HttpStatus status, String uriTemplate) {
+        Key key = new Key(exceptionType, status, uriTemplate);
+        T value = series.get(key);
+        if (value != null) {
+            return value;
+        }
+        if (size.get() >= maxSeries) {
+            key = new Key(exceptionType, status, OTHER);
+        }
+        return series.computeIfAbsent(key, this::create);
+    }
+
+    /**
+     * @return a live, unmodifiable view of all series
+     */
+    public Map<Key, T> asMap() {
+        return Collections.unmodifiableMap(series);
+    }
+
+    private T create(Key key) {
+        size.incrementAndGet();
+        return factory.apply(key);
+    }
+
+    /**
+     * Identity of a series
+     */
+    @Getter
+    @EqualsAndHashCode
+    public static final class Key {
+
+        private final Class<?> exceptionType;
+        private final HttpStatus status;
+        private final String uriTemplate;
+
+        Key(Class<?> exceptionType, HttpStatus status, String uriTemplate) {
+            this.exceptionType = exceptionType;
+            this.status = status;
+            this.uriTemplate = uriTemplate;
+        }
+    }
+}
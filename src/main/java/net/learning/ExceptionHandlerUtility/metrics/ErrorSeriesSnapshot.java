@@ -0,0 +1,23 @@
+package net.learning.ExceptionHandlerUtility.metrics;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * Point-in-time counts and handler latencies of one error series
+ */
+@Getter
+@Builder
+@ToString
+public class ErrorSeriesSnapshot {
+
+    private final String exception;
+    private final int status;
+    private final String uriTemplate;
+    private final long count;
+    private final long meanNanos;
+    private final long p50Nanos;
+    private final long p99Nanos;
+    private final long maxNanos;
+}
@@ -0,0 +1,73 @@
+package net.learning.ExceptionHandlerUtility.metrics;
+
+import net.learning.ExceptionHandlerUtility.handler.HandledErrorListener;
+import net.learning.ExceptionHandlerUtility.model.Errors;
+import org.springframework.http.HttpStatus;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Error counts and handler latency histograms kept in memory, for applications without Micrometer. Recording never
+ * locks: the series lookup is a {@link java.util.concurrent.ConcurrentHashMap} read and the counters are striped
+ * {@link java.util.concurrent.atomic.LongAdder}s.
+ */
+public class InProcessErrorMetrics implements HandledErrorListener {
+
+    public static final int DEFAULT_MAX_SERIES = 1000;
+
+    private final ErrorSeries<LatencyHistogram> series;
+
+    public InProcessErrorMetrics() {
+        this(DEFAULT_MAX_SERIES);
+    }
+
+    public InProcessErrorMetrics(int maxSeries) {
+        this.series = new ErrorSeries<>(maxSeries, key -> new LatencyHistogram());
+    }
+
+    @Override
+    public void onErrorHandled(Throwable exception, HttpStatus status, String uriTemplate, List<Errors> errors,
+                               long latencyNanos) {
+        series.get(exception.getClass(), status, uriTemplate).record(latencyNanos);
+    }
+
+    /**
+     * @return number of errors of the given type, summed over all statuses and URI templates
+     */
+    public long count(Class<? extends Throwable> exceptionType) {
+        long count = 0;
+        for (Map.Entry<ErrorSeries.Key, LatencyHistogram> entry : series.asMap().entrySet()) {
+            if (entry.getKey().getExceptionType() == exceptionType) {
+                count += entry.getValue().count();
+            }
+        }
+        return count;
+    }
+
+    /**
+     * @return a snapshot of every series, most frequent first
+     */
+    public List<ErrorSeriesSnapshot> snapshot() {
+        List<ErrorSeriesSnapshot> snapshots = new ArrayList<>();
+        for (Map.Entry<ErrorSeries.Key, LatencyHistogram> entry : series.asMap().entrySet()) {
+            ErrorSeries.Key key = entry.getKey();
+            LatencyHistogram histogram = entry.getValue();
+            long count = histogram.count();
+            snapshots.add(ErrorSeriesSnapshot.builder()
+                    .exception(key.getExceptionType().getName())
+                    .status(key.getStatus().value())
+                    .uriTemplate(key.getUriTemplate())
+                    .count(count)
+                    .meanNanos(count == 0 ? 0 : histogram.totalNanos() / count)
+                    .p50Nanos(histogram.percentileNanos(0.5))
+                    .p99Nanos(histogram.percentileNanos(0.99))
+                    .maxNanos(histogram.maxNanos())
+                    .build());
+        }
+        snapshots.sort(Comparator.comparingLong(ErrorSeriesSnapshot::getCount).reversed());
+        return snapshots;
+    }
+}
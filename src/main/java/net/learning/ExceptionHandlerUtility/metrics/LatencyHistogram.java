@@ -0,0 +1,79 @@
+package net.learning.ExceptionHandlerUtility.metrics;
+
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Contention-free latency histogram with power-of-two nanosecond buckets. Recording is a handful of striped
+ * {@link LongAdder} increments; percentiles are estimated as the upper bound of the bucket they fall into, so they
+ * are accurate to within a factor of two.
+ */
+public final class LatencyHistogram {
+
+    private static final int BUCKETS = 64;
+
+    private final LongAdder[] buckets = new LongAdder[BUCKETS];
+    private final LongAdder count = new LongAdder();
+    private final LongAdder totalNanos = new LongAdder();
+    private final LongAccumulator maxNanos = new LongAccumulator(Math::max, 0);
+
+    public LatencyHistogram() {
+        for (int i = 0; i < BUCKETS; i++) {
+            buckets[i] = new LongAdder();
+        }
+    }
+
+    public void record(long nanos) {
+        long value = Math.max(nanos, 0);
+        buckets[BUCKETS - Long.numberOfLeadingZeros(value)].increment();
+        count.increment();
+        totalNanos.add(value);
+        maxNanos.accumulate(value);
+    }
+
+    public long count() {
+        return count.sum();
+    }
+
+    public long totalNanos() {
+        return totalNanos.sum();
+    }
+
+    public long maxNanos() {
+        return maxNanos.get();
+    }
+
+    /**
+     * @param quantile
+     *            between 0 and 1
+     *
+     * @return estimated latency at the given quantile in nanoseconds, 0 when nothing was recorded
+     */
+    public long percentileNanos(double quantile) {
+        long[] counts = new long[BUCKETS];
+        long total = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            counts[i] = buckets[i].sum();
+            total += counts[i];
+        }
+        if (total == 0) {
+            return 0;
+        }
+        long rank = (long) Math.ceil(quantile * total);
+        long seen = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            seen += counts[i];
+            if (seen >= rank && counts[i] > 0) {
+                return Math.min(upperBound(i), maxNanos());
+            }
+        }
+        return maxNanos();
+    }
+
+    /**
+     * Bucket {@code b} holds values in {@code [2^(b-1), 2^b - 1]}; bucket 0 holds only 0
+     */
+    private static long upperBound(int bucket) {
+        return (1L << bucket) - 1;
+    }
+}
@@ -0,0 +1,61 @@
+package net.learning.ExceptionHandlerUtility.metrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import net.learning.ExceptionHandlerUtility.handler.HandledErrorListener;
+import net.learning.ExceptionHandlerUtility.model.Errors;
+import org.springframework.http.HttpStatus;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Publishes handled errors to Micrometer as the {@value #ERRORS_METER} counter and the {@value #LATENCY_METER} timer,
+ * tagged with exception, status and uri. The exception tag is the fully qualified class name, so equally named
+ * exceptions from different packages stay apart. Meters are registered once per series and cached, so recording does
+ * not go through the registry's meter lookup. The uri tag is bounded the same way as {@link ErrorSeries}.
+ */
+public class MicrometerErrorMetrics implements HandledErrorListener {
+
+    public static final String ERRORS_METER = "exception.handler.errors";
+    public static final String LATENCY_METER = "exception.handler.latency";
+
+    private final ErrorSeries<Meters> series;
+
+    public MicrometerErrorMetrics(MeterRegistry registry) {
+        this(registry, InProcessErrorMetrics.DEFAULT_MAX_SERIES);
+    }
+
+    public MicrometerErrorMetrics(MeterRegistry registry, int maxSeries) {
+        this.series = new ErrorSeries<>(maxSeries, key -> new Meters(registry, key));
+    }
+
+    @Override
+    public void onErrorHandled(Throwable exception, HttpStatus status, String uriTemplate, List<Errors> errors,
+                               long latencyNanos) {
+        Meters meters = series.get(exception.getClass(), status, uriTemplate);
+        meters.errors.increment();
+        meters.latency.record(latencyNanos, TimeUnit.NANOSECONDS);
+    }
+
+    private static final class Meters {
+
+        private final Counter errors;
+        private final Timer latency;
+
+        private Meters(MeterRegistry registry, ErrorSeries.Key key) {
+            String[] tags = { "exception", key.getExceptionType().getName(),
+                    "status", String.valueOf(key.getStatus().value()), "uri", key.getUriTemplate() };
+            this.errors = Counter.builder(ERRORS_METER)
+                    .description("Exceptions handled by the exception handler")
+                    .tags(tags)
+                    .register(registry);
+            this.latency = Timer.builder(LATENCY_METER)
+                    .description("Time spent building the error response")
+                    .tags(tags)
+                    .publishPercentileHistogram()
+                    .register(registry);
+        }
+    }
+}
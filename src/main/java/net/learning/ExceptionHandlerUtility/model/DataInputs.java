@@ -1,11 +1,95 @@
 package net.learning.ExceptionHandlerUtility.model;
 
+import lombok.AccessLevel;
 import lombok.Getter;
+import net.learning.ExceptionHandlerUtility.utils.LightweightExceptions;
 
 import java.util.List;
 
+/**
+ * Base class of all custom exceptions. Whether a stack trace is captured is decided by
+ * {@link LightweightExceptions} when the exception is constructed. The cause can be passed to the constructor or set
+ * once with {@link #initCause}, except on the pre-allocated shared instances.
+ */
 @Getter
 public class DataInputs extends RuntimeException {
 
     protected List<Errors> errorMessage;
+
+    /**
+     * True when the {@link ErrorCollector} the errors come from left some out, null otherwise
+     */
+    private Boolean truncated;
+
+    /**
+     * Number of errors reported to the {@link ErrorCollector}, only set when truncated
+     */
+    private Integer totalErrors;
+
+    /**
+     * The cause, kept here because the Throwable constructor that controls suppression fixes its own cause
+     */
+    @Getter(AccessLevel.NONE)
+    private Throwable cause;
+    @Getter(AccessLevel.NONE)
+    private boolean causeSet;
+
+    public DataInputs() {
+        super(null, null, LightweightExceptions.isSuppressionEnabled(), true);
+    }
+
+    /**
+     * @param cause
+     *            the underlying failure, may be null
+     */
+    public DataInputs(Throwable cause) {
+        this();
+        this.cause = cause;
+        this.causeSet = true;
+    }
+
+    /**
+     * Constructor for pre-allocated shared instances, which never carry a stack trace or suppressed exceptions
+     *
+     * @param shared
+     *            marker to distinguish this constructor, the value is ignored
+     */
+    protected DataInputs(boolean shared) {
+        super(null, null, false, false);
+        this.causeSet = true;
+    }
+
+    /**
+     * Takes over the summary of the collector the errors come from, so it is rendered with them
+     */
+    void summarize(ErrorCollector collector) {
+        this.truncated = collector.isTruncated() ? Boolean.TRUE : null;
+        this.totalErrors = collector.isTruncated() ? collector.getTotalErrors() : null;
+    }
+
+    @Override
+    public synchronized Throwable getCause() {
+        return cause;
+    }
+
+    @Override
+    public synchronized Throwable initCause(Throwable cause) {
+        if (causeSet) {
+            throw new IllegalStateException("Can't overwrite cause with " + cause, this);
+        }
+        if (cause == this) {
+            throw new IllegalArgumentException("Self-causation not permitted", this);
+        }
+        this.cause = cause;
+        this.causeSet = true;
+        return this;
+    }
+
+    @Override
+    public synchronized Throwable fillInStackTrace() {
+        if (LightweightExceptions.isLightweight(getClass())) {
+            return this;
+        }
+        return super.fillInStackTrace();
+    }
 }
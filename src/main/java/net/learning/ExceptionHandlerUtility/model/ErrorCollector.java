@@ -0,0 +1,166 @@
+package net.learning.ExceptionHandlerUtility.model;
+
+import net.learning.ExceptionHandlerUtility.exceptions.DataNotFoundException;
+import net.learning.ExceptionHandlerUtility.exceptions.ValidationException;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Accumulates errors of a bulk or batch request without throwing per item. Errors are kept in one list sized up
+ * front; once {@code maxErrors} are collected further errors are only counted and {@link #add} returns false, so the
+ * caller can stop processing. The result is thrown once and rendered by GlobalExceptionHandler as a regular
+ * ErrorResponse, with {@code truncated} and {@code totalErrors} when errors were left out.
+ *
+ * <pre>
+ * ErrorCollector collector = new ErrorCollector(records.size(), 100);
+ * for (int i = 0; i &lt; records.size() &amp;&amp; !collector.isFull(); i++) {
+ *     if (records.get(i).getName() == null) {
+ *         collector.add(i, "name must not be null");
+ *     }
+ * }
+ * collector.throwIfAny();
+ * </pre>
+ *
+ * Not thread-safe; use one collector per request.
+ */
+public class ErrorCollector {
+
+    public static final int UNLIMITED = Integer.MAX_VALUE;
+
+    private static final int MAX_PREALLOCATED = 1024;
+
+    private final List<Errors> errors;
+    private final int maxErrors;
+    private int totalErrors;
+    private boolean truncated;
+
+    public ErrorCollector() {
+        this(10, UNLIMITED);
+    }
+
+    /**
+     * @param expectedErrors
+     *            capacity to allocate up front, bounded by maxErrors
+     * @param maxErrors
+     *            number of errors to keep, {@link #UNLIMITED} for all
+     */
+    public ErrorCollector(int expectedErrors, int maxErrors) {
+        if (maxErrors < 1) {
+            throw new IllegalArgumentException("maxErrors must be positive");
+        }
+        this.maxErrors = maxErrors;
+        this.errors = new ArrayList<>(Math.max(Math.min(Math.min(expectedErrors, maxErrors), MAX_PREALLOCATED), 0));
+    }
+
+    /**
+     * @return false when the collector is full and the error was only counted
+     */
+    public boolean add(Errors error) {
+        totalErrors++;
+        if (errors.size() >= maxErrors) {
+            truncated = true;
+            return false;
+        }
+        errors.add(error);
+        return true;
+    }
+
+    /**
+     * @return false when the collector is full and the error was only counted
+     */
+    public boolean add(String errorMessage) {
+        return add(Errors.builder().errorMessage(errorMessage).build());
+    }
+
+    /**
+     * @param itemIndex
+     *            position of the failed item in the request
+     * @param errorMessage
+     *            to take as input
+     *
+     * @return false when the collector is full and the error was only counted
+     */
+    public boolean add(int itemIndex, String errorMessage) {
+        return add(new ItemErrors(itemIndex, errorMessage));
+    }
+
+    /**
+     * Counts errors that were not added, e.g. the rest of a source once the collector is full
+     *
+     * @param count
+     *            number of errors skipped
+     */
+    public void skipped(int count) {
+        if (count > 0) {
+            totalErrors += count;
+            truncated = true;
+        }
+    }
+
+    public boolean hasErrors() {
+        return totalErrors > 0;
+    }
+
+    public boolean isFull() {
+        return errors.size() >= maxErrors;
+    }
+
+    /**
+     * @return whether errors were dropped or skipped because the collector was full
+     */
+    public boolean isTruncated() {
+        return truncated;
+    }
+
+    /**
+     * @return number of errors reported, including those beyond maxErrors
+     */
+    public int getTotalErrors() {
+        return totalErrors;
+    }
+
+    /**
+     * @return the kept errors, in the order they were added
+     */
+    public List<Errors> getErrors() {
+        return Collections.unmodifiableList(errors);
+    }
+
+    /**
+     * @return a ValidationException carrying a copy of the kept errors and the truncation summary, rendered as 400
+     */
+    public ValidationException toValidationException() {
+        return summarized(new ValidationException(snapshot()));
+    }
+
+    /**
+     * @return a DataNotFoundException carrying a copy of the kept errors and the truncation summary, rendered as 404
+     */
+    public DataNotFoundException toDataNotFoundException() {
+        return summarized(new DataNotFoundException(snapshot()));
+    }
+
+    private <T extends DataInputs> T summarized(T exception) {
+        exception.summarize(this);
+        return exception;
+    }
+
+    /**
+     * Errors may be null, which List.copyOf rejects
+     */
+    private List<Errors> snapshot() {
+        return Collections.unmodifiableList(new ArrayList<>(errors));
+    }
+
+    /**
+     * @throws ValidationException
+     *             when any error was added
+     */
+    public void throwIfAny() {
+        if (hasErrors()) {
+            throw toValidationException();
+        }
+    }
+}
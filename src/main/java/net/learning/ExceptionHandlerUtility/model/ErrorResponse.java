@@ -1,14 +1,12 @@
 package net.learning.ExceptionHandlerUtility.model;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 import org.springframework.http.HttpMethod;
 
-import java.time.LocalDateTime;
-import java.time.ZoneOffset;
-import java.time.format.DateTimeFormatter;
 import java.util.List;
 /**
  * Class representing an API error in order to provide details of exceptions thrown back to the client
@@ -25,19 +23,20 @@ public class ErrorResponse {
     private String timestamp;
     private List<Errors> errors;
 
-    private static final DateTimeFormatter dateFormatter = DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss");
+    /**
+     * Set to true when errors were left out because of the payload limits, absent otherwise
+     */
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Boolean truncated;
 
-//    public ErrorResponse(){
-//
-//    }
-
-//    public ErrorResponse(HttpMethod method, String requestUri, String statusCode, List<Errors> errors) {
-//        this();
-//        this.method = method;
-//        this.requestUri = requestUri;
-//        this.statusCode = statusCode;
-//        this.timestamp = dateFormatter.format(LocalDateTime.now(ZoneOffset.UTC));
-//        this.errors = errors;
-//    }
+    /**
+     * Number of errors before the payload limits were applied, duplicates included, only present when truncated
+     */
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Integer totalErrors;
 
+    public ErrorResponse(HttpMethod method, String requestUri, String statusCode, String timestamp,
+                         List<Errors> errors) {
+        this(method, requestUri, statusCode, timestamp, errors, null, null);
+    }
 }
@@ -1,12 +1,22 @@
 package net.learning.ExceptionHandlerUtility.model;
 
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
 import lombok.*;
 
+/**
+ * Single error entry of an ErrorResponse. Immutable, so parsed instances can be cached and shared between requests.
+ */
 @Getter
-@Builder
-@Setter
-@Data
+@EqualsAndHashCode
+@ToString
 public class Errors {
 
-    protected String errorMessage;
+    protected final String errorMessage;
+
+    @Builder
+    @JsonCreator
+    public Errors(@JsonProperty("errorMessage") String errorMessage) {
+        this.errorMessage = errorMessage;
+    }
 }
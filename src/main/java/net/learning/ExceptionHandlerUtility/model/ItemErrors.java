@@ -0,0 +1,24 @@
+package net.learning.ExceptionHandlerUtility.model;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * Error of one item of a bulk request, rendered as {@code {"itemIndex":42,"errorMessage":"..."}}
+ */
+@Getter
+@EqualsAndHashCode(callSuper = true)
+@ToString(callSuper = true)
+public class ItemErrors extends Errors {
+
+    private final int itemIndex;
+
+    @JsonCreator
+    public ItemErrors(@JsonProperty("itemIndex") int itemIndex, @JsonProperty("errorMessage") String errorMessage) {
+        super(errorMessage);
+        this.itemIndex = itemIndex;
+    }
+}
@@ -0,0 +1,232 @@
+package net.learning.ExceptionHandlerUtility.reactive;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import net.learning.ExceptionHandlerUtility.circuitbreaker.CircuitOpenException;
+import net.learning.ExceptionHandlerUtility.exceptions.*;
+import net.learning.ExceptionHandlerUtility.handler.HandledErrorListeners;
+import net.learning.ExceptionHandlerUtility.mapping.ErrorMapping;
+import net.learning.ExceptionHandlerUtility.mapping.ErrorMappingRegistry;
+import net.learning.ExceptionHandlerUtility.model.DataInputs;
+import net.learning.ExceptionHandlerUtility.model.ErrorCollector;
+import net.learning.ExceptionHandlerUtility.model.ErrorResponse;
+import net.learning.ExceptionHandlerUtility.model.Errors;
+import net.learning.ExceptionHandlerUtility.utils.Constants;
+import net.learning.ExceptionHandlerUtility.utils.ErrorPayloadLimits;
+import net.learning.ExceptionHandlerUtility.utils.ErrorResponseWriters;
+import net.learning.ExceptionHandlerUtility.utils.ExceptionHandlerHelperUtil;
+import net.learning.ExceptionHandlerUtility.utils.UriTemplates;
+import org.springframework.core.Ordered;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.web.bind.support.WebExchangeBindException;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.ServerWebInputException;
+import org.springframework.web.server.UnsupportedMediaTypeStatusException;
+import org.springframework.web.server.WebExceptionHandler;
+import reactor.core.publisher.Mono;
+
+import javax.validation.ConstraintViolationException;
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Reactive counterpart of {@link net.learning.ExceptionHandlerUtility.handler.GlobalExceptionHandler}. Maps the same
+ * exceptions to the same ErrorResponse contract and writes the body into a {@link DataBuffer} without blocking, in JSON
+ * or the binary encoding the client prefers.
+ * Mappings from the {@link ErrorMappingRegistry} take precedence over the built-in ones. Exceptions it does not know
+ * are passed on to the next {@link WebExceptionHandler}.
+ */
+public class ReactiveGlobalExceptionHandler implements WebExceptionHandler, Ordered {
+
+    /**
+     * Runs before Spring Boot's DefaultErrorWebExceptionHandler, which is registered at -1
+     */
+    public static final int ORDER = -2;
+
+    private static final String NO_MATCHING_HANDLER = "No matching handler";
+
+    private static final String BEST_MATCHING_PATTERN_ATTRIBUTE =
+            "org.springframework.web.reactive.HandlerMapping.bestMatchingPattern";
+
+    private static final List<Errors> UNAUTHORIZED_ERRORS =
+            List.of(Errors.builder().errorMessage(Constants.UNAUTHORIZED_ERROR_MESSAGE).build());
+    private static final List<Errors> ACCESS_DENIED_ERRORS =
+            List.of(Errors.builder().errorMessage(Constants.ACCESS_DENIED_ERROR_MESSAGE).build());
+    private static final List<Errors> TIMEOUT_ERRORS =
+            List.of(Errors.builder().errorMessage(Constants.TIMEOUT_ERROR_MESSAGE).build());
+
+    private final ErrorResponseWriters errorResponseWriters;
+    private final ErrorMappingRegistry errorMappingRegistry;
+    private final HandledErrorListeners handledErrorListeners;
+
+    /**
+     * Null when {@link ExceptionHandlerHelperUtil#getErrorPayloadLimits()} applies
+     */
+    private final ErrorPayloadLimits errorPayloadLimits;
+
+    public ReactiveGlobalExceptionHandler(ObjectMapper objectMapper) {
+        this(objectMapper, new ErrorMappingRegistry());
+    }
+
+    public ReactiveGlobalExceptionHandler(ObjectMapper objectMapper, ErrorMappingRegistry errorMappingRegistry) {
+        this(objectMapper, errorMappingRegistry, HandledErrorListeners.NONE);
+    }
+
+    public ReactiveGlobalExceptionHandler(ObjectMapper objectMapper, ErrorMappingRegistry errorMappingRegistry,
+                                          HandledErrorListeners handledErrorListeners) {
+        this(objectMapper, errorMappingRegistry, handledErrorListeners, null);
+    }
+
+    public ReactiveGlobalExceptionHandler(ObjectMapper objectMapper, ErrorMappingRegistry errorMappingRegistry,
+                                          HandledErrorListeners handledErrorListeners,
+                                          ErrorPayloadLimits errorPayloadLimits) {
+        this.errorResponseWriters = ErrorResponseWriters.of(objectMapper);
+        this.errorMappingRegistry = errorMappingRegistry;
+        this.handledErrorListeners = handledErrorListeners;
+        this.errorPayloadLimits = errorPayloadLimits;
+    }
+
+    @Override
+    public int getOrder() {
+        return ORDER;
+    }
+
+    @Override
+    public Mono<Void> handle(ServerWebExchange exchange, Throwable throwable) {
+        ServerHttpRequest request = exchange.getRequest();
+        ServerHttpResponse response = exchange.getResponse();
+        ErrorMapping errorMapping = errorMappingRegistry.resolve(throwable.getClass());
+        HttpStatus status = errorMapping != null ? errorMapping.getStatus() : resolveStatus(throwable);
+        if (status == null || response.isCommitted()) {
+            return Mono.error(throwable);
+        }
+        long startNanos = System.nanoTime();
+        ErrorCollector collector = errorMapping != null ? null : collectErrors(throwable);
+        List<Errors> errors = errorMapping != null ? errorMapping.errorsFor(throwable)
+                : collector != null ? collector.getErrors() : resolveErrors(throwable, request);
+        DataInputs summary = errorMapping == null && throwable instanceof DataInputs ? (DataInputs) throwable : null;
+        ErrorResponse errorResponse = ErrorResponse.builder()
+                .method(request.getMethod())
+                .requestUri(request.getPath().value())
+                .statusCode(status.name())
+                .timestamp(ExceptionHandlerHelperUtil.currentTimeStamp())
+                .errors(errors)
+                .truncated(summary != null ? summary.getTruncated()
+                        : ExceptionHandlerHelperUtil.truncatedOf(collector))
+                .totalErrors(summary != null ? summary.getTotalErrors()
+                        : ExceptionHandlerHelperUtil.totalErrorsOf(collector))
+                .build();
+
+        ErrorResponseWriters.Format format = errorResponseWriters.select(acceptedMediaTypes(request));
+        DataBuffer buffer = response.bufferFactory().allocateBuffer();
+        try {
+            format.getWriter().write(errorResponse, buffer.asOutputStream());
+        } catch (IOException | RuntimeException e) {
+            DataBufferUtils.release(buffer);
+            return Mono.error(e);
+        }
+        response.setStatusCode(status);
+        response.getHeaders().setContentType(format.getMediaType());
+        response.getHeaders().setContentLength(buffer.readableByteCount());
+        if (throwable instanceof CircuitOpenException) {
+            response.getHeaders().set(HttpHeaders.RETRY_AFTER,
+                    Long.toString(ExceptionHandlerHelperUtil.retryAfterSeconds((CircuitOpenException) throwable)));
+        }
+        if (!handledErrorListeners.isEmpty()) {
+            Object pattern = exchange.getAttribute(BEST_MATCHING_PATTERN_ATTRIBUTE);
+            handledErrorListeners.onErrorHandled(throwable, status,
+                    pattern != null ? pattern.toString() : UriTemplates.UNMAPPED, errors, System.nanoTime() - startNanos);
+        }
+        return response.writeWith(Mono.just(buffer));
+    }
+
+    /**
+     * @return the HTTP status for the given exception, or null when it is not handled here
+     */
+    private static HttpStatus resolveStatus(Throwable throwable) {
+        if (throwable instanceof ValidationException) {
+            return HttpStatus.BAD_REQUEST;
+        } else if (throwable instanceof DataNotFoundException) {
+            return HttpStatus.NOT_FOUND;
+        } else if (throwable instanceof UnAuthorizedException) {
+            return HttpStatus.UNAUTHORIZED;
+        } else if (throwable instanceof ServerException) {
+            return HttpStatus.INTERNAL_SERVER_ERROR;
+        } else if (throwable instanceof AccessDeniedException) {
+            return HttpStatus.FORBIDDEN;
+        } else if (throwable instanceof TimeOutException) {
+            return HttpStatus.GATEWAY_TIMEOUT;
+        } else if (throwable instanceof ServerWebInputException || throwable instanceof ConstraintViolationException
+                || throwable instanceof UnsupportedMediaTypeStatusException) {
+            return HttpStatus.BAD_REQUEST;
+        } else if (isNoHandlerFound(throwable)) {
+            return HttpStatus.NOT_FOUND;
+        } else if (throwable instanceof ResourceAccessException) {
+            return HttpStatus.INTERNAL_SERVER_ERROR;
+        }
+        return null;
+    }
+
+    /**
+     * @return the errors of a bind failure or constraint violation, limited by the payload limits, or null for any
+     *         other exception
+     */
+    private ErrorCollector collectErrors(Throwable throwable) {
+        if (throwable instanceof WebExchangeBindException) {
+            return ExceptionHandlerHelperUtil.collectValidationErrors(
+                    ((WebExchangeBindException) throwable).getAllErrors(), errorPayloadLimits());
+        } else if (throwable instanceof ConstraintViolationException) {
+            return ExceptionHandlerHelperUtil.collectConstraintViolations(
+                    ((ConstraintViolationException) throwable).getConstraintViolations(), errorPayloadLimits());
+        }
+        return null;
+    }
+
+    private List<Errors> resolveErrors(Throwable throwable, ServerHttpRequest request) {
+        if (throwable instanceof ValidationException || throwable instanceof DataNotFoundException
+                || throwable instanceof ServerException) {
+            return ((DataInputs) throwable).getErrorMessage();
+        } else if (throwable instanceof UnAuthorizedException) {
+            return UNAUTHORIZED_ERRORS;
+        } else if (throwable instanceof AccessDeniedException) {
+            return ACCESS_DENIED_ERRORS;
+        } else if (throwable instanceof TimeOutException) {
+            return TIMEOUT_ERRORS;
+        } else if (isNoHandlerFound(throwable)) {
+            return errorsOf("No handler found for " + request.getMethodValue() + " " + request.getPath().value());
+        } else if (throwable instanceof ResponseStatusException) {
+            return errorsOf(((ResponseStatusException) throwable).getReason());
+        }
+        return errorsOf(throwable.getMessage());
+    }
+
+    private ErrorPayloadLimits errorPayloadLimits() {
+        return errorPayloadLimits != null ? errorPayloadLimits : ExceptionHandlerHelperUtil.getErrorPayloadLimits();
+    }
+
+    private static List<MediaType> acceptedMediaTypes(ServerHttpRequest request) {
+        try {
+            return request.getHeaders().getAccept();
+        } catch (InvalidMediaTypeException e) {
+            return List.of();
+        }
+    }
+
+    private static boolean isNoHandlerFound(Throwable throwable) {
+        return throwable instanceof ResponseStatusException
+                && ((ResponseStatusException) throwable).getStatus() == HttpStatus.NOT_FOUND
+                && NO_MATCHING_HANDLER.equals(((ResponseStatusException) throwable).getReason());
+    }
+
+    private static List<Errors> errorsOf(String message) {
+        return List.of(Errors.builder().errorMessage(message).build());
+    }
+}
@@ -0,0 +1,129 @@
+package net.learning.ExceptionHandlerUtility.routing;
+
+import org.springframework.web.servlet.HandlerMapping;
+import org.springframework.web.servlet.function.support.RouterFunctionMapping;
+import org.springframework.web.servlet.handler.AbstractUrlHandlerMapping;
+import org.springframework.web.servlet.mvc.method.RequestMappingInfo;
+import org.springframework.web.servlet.mvc.method.RequestMappingInfoHandlerMapping;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Trie of the path segments of all request mappings, answering whether a path could be mapped at all without asking
+ * the handler mappings. Literal segments are looked up by name; segments with a variable or a wildcard match any
+ * segment, and {@code **} or {@code {*path}} match everything below. The answer is conservative: it may say yes for a
+ * path no handler takes, but never no for a path one does. Trailing slashes and file extensions are ignored for that
+ * reason.
+ */
+public final class RequestMappingIndex {
+
+    private static final String EMPTY_HANDLER_MAPPING = "EmptyHandlerMapping";
+
+    private final Node root = new Node();
+
+    /**
+     * Indexes the mappings of the given handler mappings
+     *
+     * @return the index, or null when one of them maps requests in a way that can not be indexed
+     */
+    public static RequestMappingIndex of(Collection<HandlerMapping> handlerMappings) {
+        RequestMappingIndex index = new RequestMappingIndex();
+        for (HandlerMapping handlerMapping : handlerMappings) {
+            if (handlerMapping instanceof RequestMappingInfoHandlerMapping) {
+                for (RequestMappingInfo info :
+                        ((RequestMappingInfoHandlerMapping) handlerMapping).getHandlerMethods().keySet()) {
+                    info.getPatternValues().forEach(index::add);
+                }
+            } else if (handlerMapping instanceof AbstractUrlHandlerMapping) {
+                ((AbstractUrlHandlerMapping) handlerMapping).getHandlerMap().keySet().forEach(index::add);
+            } else if (handlerMapping instanceof RouterFunctionMapping) {
+                if (((RouterFunctionMapping) handlerMapping).getRouterFunction() != null) {
+                    return null;
+                }
+            } else if (!handlerMapping.getClass().getSimpleName().equals(EMPTY_HANDLER_MAPPING)) {
+                return null;
+            }
+        }
+        return index;
+    }
+
+    /**
+     * Adds an Ant-style or PathPattern pattern
+     */
+    public RequestMappingIndex add(String pattern) {
+        Node node = root;
+        for (String segment : pattern.split("/")) {
+            if (segment.isEmpty()) {
+                continue;
+            }
+            if (segment.equals("**") || segment.startsWith("{*")) {
+                node.catchAll = true;
+                return this;
+            }
+            if (isPattern(segment)) {
+                if (node.wildcard == null) {
+                    node.wildcard = new Node();
+                }
+                node = node.wildcard;
+            } else {
+                node = node.literals.computeIfAbsent(segment, key -> new Node());
+            }
+        }
+        node.terminal = true;
+        return this;
+    }
+
+    /**
+     * @param path
+     *            decoded path within the application
+     *
+     * @return false when no mapping can match the path
+     */
+    public boolean matches(String path) {
+        String[] segments = path.split("/");
+        int start = 0;
+        while (start < segments.length && segments[start].isEmpty()) {
+            start++;
+        }
+        return matches(root, segments, start);
+    }
+
+    private static boolean matches(Node node, String[] segments, int index) {
+        if (node.catchAll) {
+            return true;
+        }
+        while (index < segments.length && segments[index].isEmpty()) {
+            index++;
+        }
+        if (index == segments.length) {
+            return node.terminal;
+        }
+        String segment = segments[index];
+        Node literal = node.literals.get(segment);
+        if (literal != null && matches(literal, segments, index + 1)) {
+            return true;
+        }
+        int extension = segment.lastIndexOf('.');
+        if (extension > 0 && index == segments.length - 1) {
+            literal = node.literals.get(segment.substring(0, extension));
+            if (literal != null && matches(literal, segments, index + 1)) {
+                return true;
+            }
+        }
+        return node.wildcard != null && matches(node.wildcard, segments, index + 1);
+    }
+
+    private static boolean isPattern(String segment) {
+        return segment.indexOf('{') >= 0 || segment.indexOf('*') >= 0 || segment.indexOf('?') >= 0;
+    }
+
+    private static final class Node {
+
+        private final Map<String, Node> literals = new HashMap<>();
+        private Node wildcard;
+        private boolean terminal;
+        private boolean catchAll;
+    }
+}
@@ -0,0 +1,138 @@
+package net.learning.ExceptionHandlerUtility.routing;
+
+import lombok.extern.slf4j.Slf4j;
+import net.learning.ExceptionHandlerUtility.utils.ErrorResponseWriters;
+import net.learning.ExceptionHandlerUtility.utils.ServletErrorResponses;
+import org.springframework.beans.factory.BeanFactoryUtils;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.event.ContextRefreshedEvent;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+import org.springframework.web.util.UrlPathHelper;
+
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Answers requests for paths no handler is mapped to with the 404 ErrorResponse of
+ * {@link org.springframework.web.servlet.NoHandlerFoundException}, before the DispatcherServlet looks up a handler or
+ * resolves the exception. The mapped paths are indexed in a {@link RequestMappingIndex} once the context is
+ * refreshed; until then, and when a handler mapping can not be indexed, every request is passed on. Rejections are
+ * counted per client address, for at most {@code maxClients} addresses, the rest under {@link #OTHER_CLIENTS}.
+ */
+@Slf4j
+public class UnmappedPathFilter extends OncePerRequestFilter implements ApplicationListener<ContextRefreshedEvent> {
+
+    /**
+     * Client address of the rejections beyond the cap
+     */
+    public static final String OTHER_CLIENTS = "OTHER";
+
+    private static final String NO_HANDLER_FOUND = "No handler found for ";
+
+    private final ServletErrorResponses errorResponses;
+    private final String dispatcherServletPrefix;
+    private final int maxClients;
+    private final UrlPathHelper urlPathHelper = new UrlPathHelper();
+    private final ConcurrentHashMap<String, LongAdder> rejections = new ConcurrentHashMap<>();
+    private final AtomicInteger clients = new AtomicInteger();
+    private final LongAdder totalRejections = new LongAdder();
+
+    private volatile RequestMappingIndex index;
+
+    /**
+     * @param errorResponseWriters
+     *            writers of the 404 body
+     * @param dispatcherServletPrefix
+     *            path the DispatcherServlet is mapped to, empty when it is mapped to "/"
+     * @param maxClients
+     *            client addresses counted individually
+     */
+    public UnmappedPathFilter(ErrorResponseWriters errorResponseWriters, String dispatcherServletPrefix,
+                              int maxClients) {
+        this.errorResponses = new ServletErrorResponses(errorResponseWriters);
+        this.dispatcherServletPrefix = dispatcherServletPrefix;
+        this.maxClients = maxClients;
+    }
+
+    @Override
+    public void onApplicationEvent(ContextRefreshedEvent event) {
+        ApplicationContext context = event.getApplicationContext();
+        Map<String, HandlerMapping> handlerMappings =
+                BeanFactoryUtils.beansOfTypeIncludingAncestors(context, HandlerMapping.class, true, false);
+        RequestMappingIndex refreshed = RequestMappingIndex.of(handlerMappings.values());
+        if (refreshed == null) {
+            log.info("Unmapped paths are not short-circuited, a handler mapping can not be indexed");
+        }
+        index = refreshed;
+    }
+
+    /**
+     * @return a snapshot of the number of rejected requests per client address
+     */
+    public Map<String, Long> getRejections() {
+        Map<String, Long> snapshot = new HashMap<>();
+        rejections.forEach((client, count) -> snapshot.put(client, count.sum()));
+        return Collections.unmodifiableMap(snapshot);
+    }
+
+    /**
+     * @return number of rejected requests
+     */
+    public long getTotalRejections() {
+        return totalRejections.sum();
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        RequestMappingIndex current = index;
+        HttpMethod method = HttpMethod.resolve(request.getMethod());
+        if (current == null || method == null || response.isCommitted()) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+        String path = urlPathHelper.getPathWithinApplication(request);
+        if (!path.startsWith(dispatcherServletPrefix)
+                || current.matches(path.substring(dispatcherServletPrefix.length()))) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+        reject(request, response, method);
+    }
+
+    private void reject(HttpServletRequest request, HttpServletResponse response, HttpMethod method)
+            throws IOException {
+        countRejection(request.getRemoteAddr());
+        errorResponses.write(request, response, HttpStatus.NOT_FOUND,
+                NO_HANDLER_FOUND + method.name() + " " + request.getRequestURI());
+    }
+
+    private void countRejection(String client) {
+        totalRejections.increment();
+        String key = client != null ? client : OTHER_CLIENTS;
+        LongAdder count = rejections.get(key);
+        if (count == null) {
+            if (clients.get() >= maxClients) {
+                key = OTHER_CLIENTS;
+            }
+            count = rejections.computeIfAbsent(key, newKey -> {
+                clients.incrementAndGet();
+                return new LongAdder();
+            });
+        }
+        count.increment();
+    }
+}
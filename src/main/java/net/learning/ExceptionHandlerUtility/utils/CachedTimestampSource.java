@@ -0,0 +1,54 @@
+package net.learning.ExceptionHandlerUtility.utils;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * Default {@link TimestampSource}. The timestamp has second resolution, so the formatted value is cached and only
+ * re-formatted when the second changes. The cache is a single immutable entry published through a volatile field;
+ * threads racing on a new second may both format it, which is harmless.
+ */
+public class CachedTimestampSource implements TimestampSource {
+
+    private static final DateTimeFormatter FORMATTER = DateTimeFormatter.ofPattern(Constants.TIME_STAMP_FORMAT);
+
+    private final Clock clock;
+    private volatile CachedSecond cached = new CachedSecond(Long.MIN_VALUE, null);
+
+    public CachedTimestampSource() {
+        this(Clock.systemUTC());
+    }
+
+    /**
+     * @param clock
+     *            clock to read the time from, the timestamp is always rendered in UTC
+     */
+    public CachedTimestampSource(Clock clock) {
+        this.clock = clock;
+    }
+
+    @Override
+    public String currentTimeStamp() {
+        long epochSecond = Math.floorDiv(clock.millis(), 1000L);
+        CachedSecond current = cached;
+        if (current.epochSecond == epochSecond) {
+            return current.formatted;
+        }
+        String formatted = FORMATTER.format(LocalDateTime.ofEpochSecond(epochSecond, 0, ZoneOffset.UTC));
+        cached = new CachedSecond(epochSecond, formatted);
+        return formatted;
+    }
+
+    private static final class CachedSecond {
+
+        private final long epochSecond;
+        private final String formatted;
+
+        private CachedSecond(long epochSecond, String formatted) {
+            this.epochSecond = epochSecond;
+            this.formatted = formatted;
+        }
+    }
+}
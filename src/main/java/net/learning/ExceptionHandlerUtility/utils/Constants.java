@@ -11,6 +11,9 @@ public class Constants {
     public static final String UNAUTHORIZED_ERROR_MESSAGE = ": User is not Authorization";
     public static final String SEPARATOR = ":";
     public static final String TIMEOUT_ERROR_MESSAGE = "Timeout while processing the request";
+    public static final String BODY_TOO_LARGE_ERROR_MESSAGE = "Request body exceeds the maximum size";
+    public static final String BODY_TOO_DEEP_ERROR_MESSAGE = "JSON nesting exceeds the maximum depth";
+    public static final String MALFORMED_BODY_ERROR_MESSAGE = "JSON parse error";
 
 
     private Constants() {
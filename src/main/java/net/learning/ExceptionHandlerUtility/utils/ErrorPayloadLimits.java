@@ -0,0 +1,77 @@
+package net.learning.ExceptionHandlerUtility.utils;
+
+import net.learning.ExceptionHandlerUtility.model.Errors;
+import net.learning.ExceptionHandlerUtility.model.ItemErrors;
+
+/**
+ * Caps on the size of an error body built from validation failures: the number of errors kept and the length of each
+ * message. Errors beyond the cap are not built at all; the response then reports {@code truncated} and
+ * {@code totalErrors} instead.
+ */
+public final class ErrorPayloadLimits {
+
+    public static final ErrorPayloadLimits DEFAULT = new ErrorPayloadLimits(1000, 2048);
+
+    public static final ErrorPayloadLimits UNLIMITED = new ErrorPayloadLimits(Integer.MAX_VALUE, Integer.MAX_VALUE);
+
+    private static final String ELLIPSIS = "...";
+
+    private final int maxErrors;
+    private final int maxMessageLength;
+
+    /**
+     * @param maxErrors
+     *            errors kept per response
+     * @param maxMessageLength
+     *            characters kept per message, longer ones are cut and end with "..."
+     */
+    public ErrorPayloadLimits(int maxErrors, int maxMessageLength) {
+        if (maxErrors < 1 || maxMessageLength <= ELLIPSIS.length()) {
+            throw new IllegalArgumentException("maxErrors must be positive and maxMessageLength greater than 3");
+        }
+        this.maxErrors = maxErrors;
+        this.maxMessageLength = maxMessageLength;
+    }
+
+    public int getMaxErrors() {
+        return maxErrors;
+    }
+
+    public int getMaxMessageLength() {
+        return maxMessageLength;
+    }
+
+    /**
+     * @param message
+     *            to take as input, may be null
+     *
+     * @return the message, cut to maxMessageLength without splitting a surrogate pair
+     */
+    public String limitMessage(String message) {
+        if (message == null || message.length() <= maxMessageLength) {
+            return message;
+        }
+        int end = maxMessageLength - ELLIPSIS.length();
+        if (Character.isHighSurrogate(message.charAt(end - 1))) {
+            end--;
+        }
+        return message.substring(0, end) + ELLIPSIS;
+    }
+
+    /**
+     * @param error
+     *            to take as input, may be null
+     *
+     * @return the error itself when its message fits, otherwise a copy with the message cut
+     */
+    public Errors limit(Errors error) {
+        if (error == null || error.getErrorMessage() == null || error.getErrorMessage().length() <= maxMessageLength) {
+            return error;
+        }
+        String message = limitMessage(error.getErrorMessage());
+        if (error instanceof ItemErrors) {
+            return new ItemErrors(((ItemErrors) error).getItemIndex(), message);
+        }
+        return Errors.builder().errorMessage(message).build();
+    }
+}
@@ -0,0 +1,49 @@
+package net.learning.ExceptionHandlerUtility.utils;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.util.ClassUtils;
+
+/**
+ * Binary encodings an ErrorResponse can be written in besides JSON. Each one is available when its Jackson dataformat
+ * module is on the classpath.
+ */
+public final class ErrorResponseFormats {
+
+    public static final MediaType APPLICATION_CBOR = MediaType.APPLICATION_CBOR;
+    public static final MediaType APPLICATION_SMILE = new MediaType("application", "x-jackson-smile");
+
+    private static final ClassLoader CLASS_LOADER = ErrorResponseFormats.class.getClassLoader();
+
+    private static final boolean CBOR_PRESENT =
+            ClassUtils.isPresent("com.fasterxml.jackson.dataformat.cbor.CBORFactory", CLASS_LOADER);
+    private static final boolean SMILE_PRESENT =
+            ClassUtils.isPresent("com.fasterxml.jackson.dataformat.smile.SmileFactory", CLASS_LOADER);
+
+    private ErrorResponseFormats() {
+        // No-OP
+    }
+
+    public static boolean isCborPresent() {
+        return CBOR_PRESENT;
+    }
+
+    public static boolean isSmilePresent() {
+        return SMILE_PRESENT;
+    }
+
+    /**
+     * @return a new CBOR mapper, or null when jackson-dataformat-cbor is missing
+     */
+    public static ObjectMapper cborMapper() {
+        return CBOR_PRESENT ? Jackson2ObjectMapperBuilder.cbor().build() : null;
+    }
+
+    /**
+     * @return a new Smile mapper, or null when jackson-dataformat-smile is missing
+     */
+    public static ObjectMapper smileMapper() {
+        return SMILE_PRESENT ? Jackson2ObjectMapperBuilder.smile().build() : null;
+    }
+}
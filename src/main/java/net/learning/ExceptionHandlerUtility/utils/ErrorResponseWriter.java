@@ -0,0 +1,294 @@
+package net.learning.ExceptionHandlerUtility.utils;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationConfig;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.introspect.BeanPropertyDefinition;
+import com.fasterxml.jackson.databind.ser.BeanSerializer;
+import com.fasterxml.jackson.databind.ser.std.BooleanSerializer;
+import com.fasterxml.jackson.databind.ser.std.EnumSerializer;
+import com.fasterxml.jackson.databind.ser.std.NumberSerializers;
+import com.fasterxml.jackson.databind.ser.std.StringSerializer;
+import net.learning.ExceptionHandlerUtility.model.ErrorResponse;
+import net.learning.ExceptionHandlerUtility.model.Errors;
+import net.learning.ExceptionHandlerUtility.model.ItemErrors;
+import org.springframework.http.HttpMethod;
+import org.springframework.util.StreamUtils;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Writes an {@link ErrorResponse} field by field with a {@link JsonGenerator}, skipping databinding and bean
+ * introspection on the request path. Property names, order, null inclusion, enum format and indentation are taken
+ * from the given {@link ObjectMapper} once, so the output is the same as {@code mapper.writeValue(out, response)}.
+ * {@code truncated} and {@code totalErrors} are annotated NON_NULL and only written when set.
+ * Mappers with settings this writer does not reproduce (mix-ins, custom inclusion, serializers registered through
+ * modules for any of the written types) are used directly instead.
+ */
+public class ErrorResponseWriter {
+
+    private enum Field { METHOD, REQUEST_URI, STATUS_CODE, TIMESTAMP, ERRORS, TRUNCATED, TOTAL_ERRORS }
+
+    private final ObjectMapper mapper;
+    private final boolean delegateToMapper;
+    private final JsonInclude.Include inclusion;
+    private final boolean enumsUsingIndex;
+    private final Field[] fields;
+    private final SerializableString[] fieldNames;
+    private final SerializableString errorMessageName;
+    private final SerializableString[] itemErrorsNames;
+    private final boolean[] itemErrorsIndexFields;
+
+    public ErrorResponseWriter(ObjectMapper mapper) {
+        this.mapper = mapper;
+        SerializationConfig config = mapper.getSerializationConfig();
+        this.inclusion = config.getDefaultPropertyInclusion(ErrorResponse.class).getValueInclusion();
+        JsonInclude.Include errorsInclusion = config.getDefaultPropertyInclusion(Errors.class).getValueInclusion();
+        this.enumsUsingIndex = config.isEnabled(SerializationFeature.WRITE_ENUMS_USING_INDEX);
+
+        List<Field> orderedFields = new ArrayList<>();
+        List<SerializableString> orderedNames = new ArrayList<>();
+        for (BeanPropertyDefinition property : config.introspect(mapper.constructType(ErrorResponse.class)).findProperties()) {
+            Field field = fieldOf(property.getInternalName());
+            if (field != null && property.couldSerialize()) {
+                orderedFields.add(field);
+                orderedNames.add(new SerializedString(property.getName()));
+            }
+        }
+        SerializableString errorMessage = null;
+        for (BeanPropertyDefinition property : config.introspect(mapper.constructType(Errors.class)).findProperties()) {
+            if ("errorMessage".equals(property.getInternalName()) && property.couldSerialize()) {
+                errorMessage = new SerializedString(property.getName());
+            }
+        }
+        List<SerializableString> itemNames = new ArrayList<>();
+        List<Boolean> itemIndexFields = new ArrayList<>();
+        for (BeanPropertyDefinition property : config.introspect(mapper.constructType(ItemErrors.class)).findProperties()) {
+            if (property.couldSerialize()) {
+                itemNames.add(new SerializedString(property.getName()));
+                itemIndexFields.add("itemIndex".equals(property.getInternalName()));
+            }
+        }
+        boolean itemErrorsSupported = itemNames.size() == 2 && itemIndexFields.contains(true)
+                && mapper.findMixInClassFor(ItemErrors.class) == null
+                && hasSerializer(mapper, ItemErrors.class, BeanSerializer.class)
+                && hasSerializer(mapper, int.class, NumberSerializers.IntegerSerializer.class);
+        this.itemErrorsNames = itemErrorsSupported ? itemNames.toArray(new SerializableString[0]) : null;
+        this.itemErrorsIndexFields = new boolean[itemIndexFields.size()];
+        for (int i = 0; i < itemErrorsIndexFields.length; i++) {
+            itemErrorsIndexFields[i] = itemIndexFields.get(i);
+        }
+        this.fields = orderedFields.toArray(new Field[0]);
+        this.fieldNames = orderedNames.toArray(new SerializableString[0]);
+        this.errorMessageName = errorMessage;
+        this.delegateToMapper = fields.length != Field.values().length || errorMessage == null
+                || !isSupported(inclusion) || errorsInclusion != inclusion
+                || mapper.findMixInClassFor(ErrorResponse.class) != null || mapper.findMixInClassFor(Errors.class) != null
+                || !hasDefaultSerializers(mapper);
+    }
+
+    /**
+     * Writes the response as a complete document. The stream is flushed but not closed.
+     *
+     * @param errorResponse
+     *            to take as input
+     * @param outputStream
+     *            to write to
+     *
+     * @throws IOException
+     *             when the stream can not be written
+     */
+    public void write(ErrorResponse errorResponse, OutputStream outputStream) throws IOException {
+        OutputStream target = StreamUtils.nonClosing(outputStream);
+        if (delegateToMapper) {
+            mapper.writeValue(target, errorResponse);
+            return;
+        }
+        try (JsonGenerator generator = mapper.getFactory().createGenerator(target, JsonEncoding.UTF8)) {
+            mapper.getSerializationConfig().initialize(generator);
+            write(errorResponse, generator);
+        }
+    }
+
+    private void write(ErrorResponse errorResponse, JsonGenerator generator) throws IOException {
+        if (errorResponse == null) {
+            generator.writeNull();
+            return;
+        }
+        generator.writeStartObject();
+        for (int i = 0; i < fields.length; i++) {
+            switch (fields[i]) {
+                case METHOD:
+                    writeMethod(generator, fieldNames[i], errorResponse.getMethod());
+                    break;
+                case REQUEST_URI:
+                    writeString(generator, fieldNames[i], errorResponse.getRequestUri());
+                    break;
+                case STATUS_CODE:
+                    writeString(generator, fieldNames[i], errorResponse.getStatusCode());
+                    break;
+                case TIMESTAMP:
+                    writeString(generator, fieldNames[i], errorResponse.getTimestamp());
+                    break;
+                case ERRORS:
+                    writeErrors(generator, fieldNames[i], errorResponse.getErrors());
+                    break;
+                case TRUNCATED:
+                    if (errorResponse.getTruncated() != null) {
+                        generator.writeFieldName(fieldNames[i]);
+                        generator.writeBoolean(errorResponse.getTruncated());
+                    }
+                    break;
+                case TOTAL_ERRORS:
+                    if (errorResponse.getTotalErrors() != null) {
+                        generator.writeFieldName(fieldNames[i]);
+                        generator.writeNumber(errorResponse.getTotalErrors());
+                    }
+                    break;
+                default:
+                    break;
+            }
+        }
+        generator.writeEndObject();
+    }
+
+    private void writeMethod(JsonGenerator generator, SerializableString name, HttpMethod method) throws IOException {
+        if (method == null) {
+            if (includes(null)) {
+                generator.writeFieldName(name);
+                generator.writeNull();
+            }
+            return;
+        }
+        generator.writeFieldName(name);
+        if (enumsUsingIndex) {
+            generator.writeNumber(method.ordinal());
+        } else {
+            generator.writeString(method.name());
+        }
+    }
+
+    private void writeString(JsonGenerator generator, SerializableString name, String value) throws IOException {
+        if (!includes(value)) {
+            return;
+        }
+        generator.writeFieldName(name);
+        if (value == null) {
+            generator.writeNull();
+        } else {
+            generator.writeString(value);
+        }
+    }
+
+    private void writeErrors(JsonGenerator generator, SerializableString name, List<Errors> errors) throws IOException {
+        if (!includes(errors)) {
+            return;
+        }
+        generator.writeFieldName(name);
+        if (errors == null) {
+            generator.writeNull();
+            return;
+        }
+        generator.writeStartArray();
+        for (Errors error : errors) {
+            if (error == null) {
+                generator.writeNull();
+            } else if (error.getClass() == Errors.class) {
+                generator.writeStartObject();
+                writeString(generator, errorMessageName, error.getErrorMessage());
+                generator.writeEndObject();
+            } else if (error.getClass() == ItemErrors.class && itemErrorsNames != null) {
+                writeItemErrors(generator, (ItemErrors) error);
+            } else {
+                mapper.writeValue(generator, error);
+            }
+        }
+        generator.writeEndArray();
+    }
+
+    private void writeItemErrors(JsonGenerator generator, ItemErrors error) throws IOException {
+        generator.writeStartObject();
+        for (int i = 0; i < itemErrorsNames.length; i++) {
+            if (itemErrorsIndexFields[i]) {
+                generator.writeFieldName(itemErrorsNames[i]);
+                generator.writeNumber(error.getItemIndex());
+            } else {
+                writeString(generator, itemErrorsNames[i], error.getErrorMessage());
+            }
+        }
+        generator.writeEndObject();
+    }
+
+    private boolean includes(Object value) {
+        switch (inclusion) {
+            case NON_NULL:
+            case NON_ABSENT:
+                return value != null;
+            case NON_EMPTY:
+                return value != null && !(value instanceof String && ((String) value).isEmpty())
+                        && !(value instanceof Collection && ((Collection<?>) value).isEmpty());
+            default:
+                return true;
+        }
+    }
+
+    /**
+     * Whether every type written field by field still uses the serializer Jackson picks by default. A serializer
+     * added through a module replaces these, and only the mapper knows how to call it.
+     */
+    private static boolean hasDefaultSerializers(ObjectMapper mapper) {
+        return hasSerializer(mapper, ErrorResponse.class, BeanSerializer.class)
+                && hasSerializer(mapper, Errors.class, BeanSerializer.class)
+                && hasSerializer(mapper, HttpMethod.class, EnumSerializer.class)
+                && hasSerializer(mapper, String.class, StringSerializer.class)
+                && hasSerializer(mapper, Boolean.class, BooleanSerializer.class)
+                && hasSerializer(mapper, Integer.class, NumberSerializers.IntegerSerializer.class);
+    }
+
+    private static boolean hasSerializer(ObjectMapper mapper, Class<?> type, Class<?> expectedSerializer) {
+        try {
+            JsonSerializer<Object> serializer = mapper.getSerializerProviderInstance().findValueSerializer(type);
+            return serializer.getClass() == expectedSerializer;
+        } catch (JsonMappingException e) {
+            return false;
+        }
+    }
+
+    private static boolean isSupported(JsonInclude.Include include) {
+        return include == JsonInclude.Include.ALWAYS || include == JsonInclude.Include.USE_DEFAULTS
+                || include == JsonInclude.Include.NON_NULL || include == JsonInclude.Include.NON_ABSENT
+                || include == JsonInclude.Include.NON_EMPTY;
+    }
+
+    private static Field fieldOf(String internalName) {
+        switch (internalName) {
+            case "method":
+                return Field.METHOD;
+            case "requestUri":
+                return Field.REQUEST_URI;
+            case "statusCode":
+                return Field.STATUS_CODE;
+            case "timestamp":
+                return Field.TIMESTAMP;
+            case "errors":
+                return Field.ERRORS;
+            case "truncated":
+                return Field.TRUNCATED;
+            case "totalErrors":
+                return Field.TOTAL_ERRORS;
+            default:
+                return null;
+        }
+    }
+}
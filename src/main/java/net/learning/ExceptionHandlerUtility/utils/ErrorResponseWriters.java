@@ -0,0 +1,90 @@
+package net.learning.ExceptionHandlerUtility.utils;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.http.MediaType;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The {@link ErrorResponseWriter}s for every available encoding, JSON first. Used by the handlers that write the
+ * response themselves to honor the Accept header, falling back to JSON when no encoding matches.
+ */
+public class ErrorResponseWriters {
+
+    private final List<Format> formats;
+
+    private ErrorResponseWriters(List<Format> formats) {
+        this.formats = formats;
+    }
+
+    /**
+     * @param jsonMapper
+     *            mapper for JSON, CBOR and Smile use the Spring defaults
+     *
+     * @return writers for JSON and every binary encoding on the classpath
+     */
+    public static ErrorResponseWriters of(ObjectMapper jsonMapper) {
+        List<Format> formats = new ArrayList<>();
+        formats.add(new Format(MediaType.APPLICATION_JSON, new ErrorResponseWriter(jsonMapper)));
+        if (ErrorResponseFormats.isCborPresent()) {
+            formats.add(new Format(ErrorResponseFormats.APPLICATION_CBOR,
+                    new ErrorResponseWriter(ErrorResponseFormats.cborMapper())));
+        }
+        if (ErrorResponseFormats.isSmilePresent()) {
+            formats.add(new Format(ErrorResponseFormats.APPLICATION_SMILE,
+                    new ErrorResponseWriter(ErrorResponseFormats.smileMapper())));
+        }
+        return new ErrorResponseWriters(formats);
+    }
+
+    /**
+     * @return writers that always produce JSON with the given writer
+     */
+    public static ErrorResponseWriters jsonOnly(ErrorResponseWriter jsonWriter) {
+        return new ErrorResponseWriters(List.of(new Format(MediaType.APPLICATION_JSON, jsonWriter)));
+    }
+
+    /**
+     * @param acceptedMediaTypes
+     *            the parsed Accept header, may be empty
+     *
+     * @return the preferred format the client accepts, JSON when it accepts none of them
+     */
+    public Format select(List<MediaType> acceptedMediaTypes) {
+        if (formats.size() > 1 && !acceptedMediaTypes.isEmpty()) {
+            List<MediaType> accepted = new ArrayList<>(acceptedMediaTypes);
+            MediaType.sortBySpecificityAndQuality(accepted);
+            for (MediaType mediaType : accepted) {
+                for (Format format : formats) {
+                    if (mediaType.isCompatibleWith(format.mediaType)) {
+                        return format;
+                    }
+                }
+            }
+        }
+        return formats.get(0);
+    }
+
+    /**
+     * An encoding and the content type it is written with
+     */
+    public static final class Format {
+
+        private final MediaType mediaType;
+        private final ErrorResponseWriter writer;
+
+        private Format(MediaType mediaType, ErrorResponseWriter writer) {
+            this.mediaType = mediaType;
+            this.writer = writer;
+        }
+
+        public MediaType getMediaType() {
+            return mediaType;
+        }
+
+        public ErrorResponseWriter getWriter() {
+            return writer;
+        }
+    }
+}
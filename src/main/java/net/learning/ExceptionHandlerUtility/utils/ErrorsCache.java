@@ -0,0 +1,131 @@
+package net.learning.ExceptionHandlerUtility.utils;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import net.learning.ExceptionHandlerUtility.model.Errors;
+
+import java.util.Iterator;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Bounded cache of {@link Errors} parsed from JSON validation messages, keyed by the message string. Reads are a
+ * lock-free {@link ConcurrentHashMap} lookup that only marks the entry as recently used. When the cache grows past its
+ * maximum size one thread evicts entries not used since the last sweep (CLOCK, an approximation of LRU), while the
+ * others carry on without waiting.
+ */
+public class ErrorsCache {
+
+    public static final int DEFAULT_MAX_SIZE = 256;
+
+    private final ObjectMapper mapper;
+    private final int maxSize;
+    private final ConcurrentHashMap<String, Entry> entries = new ConcurrentHashMap<>();
+    private final ReentrantLock evictionLock = new ReentrantLock();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    public ErrorsCache(ObjectMapper mapper) {
+        this(mapper, DEFAULT_MAX_SIZE);
+    }
+
+    public ErrorsCache(ObjectMapper mapper, int maxSize) {
+        if (maxSize < 1) {
+            throw new IllegalArgumentException("maxSize must be positive");
+        }
+        this.mapper = mapper;
+        this.maxSize = maxSize;
+    }
+
+    /**
+     * Returns the cached Errors for the message, parsing and caching it on a miss. Messages that fail to parse are
+     * not cached.
+     *
+     * @param json
+     *            the JSON message
+     *
+     * @return the parsed Errors, shared between callers
+     *
+     * @throws JsonProcessingException
+     *             when the message is not a valid Errors document
+     */
+    public Errors parse(String json) throws JsonProcessingException {
+        Entry entry = entries.get(json);
+        if (entry != null) {
+            hits.increment();
+            if (!entry.referenced) {
+                entry.referenced = true;
+            }
+            return entry.errors;
+        }
+        misses.increment();
+        Errors errors = mapper.readValue(json, Errors.class);
+        if (entries.putIfAbsent(json, new Entry(errors)) == null && entries.size() > maxSize) {
+            evict();
+        }
+        return errors;
+    }
+
+    private void evict() {
+        if (!evictionLock.tryLock()) {
+            return;
+        }
+        try {
+            for (int pass = 0; pass < 2 && entries.size() > maxSize; pass++) {
+                Iterator<Entry> iterator = entries.values().iterator();
+                while (iterator.hasNext() && entries.size() > maxSize) {
+                    Entry entry = iterator.next();
+                    if (entry.referenced) {
+                        entry.referenced = false;
+                    } else {
+                        iterator.remove();
+                        evictions.increment();
+                    }
+                }
+            }
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    public int getMaxSize() {
+        return maxSize;
+    }
+
+    public long getHits() {
+        return hits.sum();
+    }
+
+    public long getMisses() {
+        return misses.sum();
+    }
+
+    public long getEvictions() {
+        return evictions.sum();
+    }
+
+    /**
+     * @return hits divided by lookups, 0 before the first lookup
+     */
+    public double hitRate() {
+        long hitCount = hits.sum();
+        long lookups = hitCount + misses.sum();
+        return lookups == 0 ? 0 : (double) hitCount / lookups;
+    }
+
+    private static final class Entry {
+
+        private final Errors errors;
+        private volatile boolean referenced;
+
+        private Entry(Errors errors) {
+            this.errors = errors;
+        }
+    }
+}
@@ -2,15 +2,15 @@ package net.learning.ExceptionHandlerUtility.utils;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.extern.slf4j.Slf4j;
+import net.learning.ExceptionHandlerUtility.circuitbreaker.CircuitOpenException;
+import net.learning.ExceptionHandlerUtility.model.ErrorCollector;
 import net.learning.ExceptionHandlerUtility.model.Errors;
 import org.springframework.util.StringUtils;
 import org.springframework.validation.FieldError;
 import org.springframework.validation.ObjectError;
 import org.springframework.web.context.request.ServletWebRequest;
 
-import java.time.LocalDateTime;
-import java.time.ZoneOffset;
-import java.time.format.DateTimeFormatter;
+import javax.validation.ConstraintViolation;
 import java.util.*;
 
 /**
@@ -20,8 +20,9 @@ import java.util.*;
 @Slf4j
 public class ExceptionHandlerHelperUtil {
 
-    private static final ObjectMapper MAPPER = new ObjectMapper();
+    private static volatile ErrorPayloadLimits errorPayloadLimits = ErrorPayloadLimits.DEFAULT;
 
+    private static volatile TimestampSource timestampSource = new CachedTimestampSource();
 
     private ExceptionHandlerHelperUtil() {
         // No-OP
@@ -33,7 +34,36 @@ public class ExceptionHandlerHelperUtil {
      * @return the current time stamp
      */
     public static String currentTimeStamp() {
-        return DateTimeFormatter.ofPattern(Constants.TIME_STAMP_FORMAT).format(LocalDateTime.now(ZoneOffset.UTC));
+        return timestampSource.currentTimeStamp();
+    }
+
+    /**
+     * Replaces the source used by {@link #currentTimeStamp()}, e.g. with a {@link CachedTimestampSource} over a
+     * fixed {@link java.time.Clock} in tests
+     *
+     * @param source
+     *            to take as input
+     */
+    public static void setTimestampSource(TimestampSource source) {
+        timestampSource = Objects.requireNonNull(source);
+    }
+
+    /**
+     * @return the cache of Errors parsed from JSON validation messages, e.g. to read its hit rate
+     */
+    public static ErrorsCache getErrorsCache() {
+        return ErrorsCacheHolder.ERRORS_CACHE;
+    }
+
+    /**
+     * @param circuitOpenException
+     *            to take as input
+     *
+     * @return the Retry-After value in whole seconds, rounded up and at least 1
+     */
+    public static long retryAfterSeconds(CircuitOpenException circuitOpenException) {
+        long millis = circuitOpenException.getRetryAfter().toMillis();
+        return Math.max((millis + 999) / 1000, 1);
     }
 
     /**
@@ -64,30 +94,202 @@ public class ExceptionHandlerHelperUtil {
                 .map(servWebReq -> servWebReq.getRequest().getRequestURI()).orElse(Constants.EMPTY_STRING);
     }
 
+    /**
+     * Builds the errors of a BindingResult within the current {@link ErrorPayloadLimits}
+     *
+     * @param errorList
+     *            to take as input
+     *
+     * @return the distinct errors, in the order of the input
+     */
     public static List<Errors> createErrorListFromValidationErrors(List<ObjectError> errorList) {
-        Set<Errors> ohmErrorList = new HashSet<>();
+        return collectValidationErrors(errorList).getErrors();
+    }
+
+    /**
+     * Builds the errors of a BindingResult within the current {@link ErrorPayloadLimits}
+     *
+     * @param errorList
+     *            to take as input
+     *
+     * @return the collected errors with the truncation summary
+     */
+    public static ErrorCollector collectValidationErrors(List<ObjectError> errorList) {
+        return collectValidationErrors(errorList, errorPayloadLimits);
+    }
+
+    /**
+     * Builds the errors of a BindingResult within the given limits. Duplicates are dropped and the input order is
+     * kept. Once maxErrors are collected the rest of the input is counted, not converted. The total reported when
+     * truncated is the number of input errors, duplicates included, on both sides of the cap: the rest of the input
+     * is not converted, so its duplicates can not be told apart.
+     *
+     * @param errorList
+     *            to take as input
+     * @param limits
+     *            to apply
+     *
+     * @return the collected errors with the truncation summary
+     */
+    public static ErrorCollector collectValidationErrors(List<ObjectError> errorList, ErrorPayloadLimits limits) {
+        ErrorCollector collector = new ErrorCollector(errorList.size(), limits.getMaxErrors());
+        Set<Errors> seen = new HashSet<>();
+        int index = 0;
+        int duplicates = 0;
         for (ObjectError objectError : errorList) {
-            Errors ohmError = null;
-            try {
-                if (Objects.requireNonNull(objectError.getDefaultMessage()).startsWith("{")
-                        && Objects.requireNonNull(objectError.getDefaultMessage()).endsWith("}")) {
-                    ohmError = MAPPER.readValue(objectError.getDefaultMessage(), Errors.class);
-                } else if (objectError instanceof FieldError) {
-                    FieldError fieldError = (FieldError) objectError;
-                    ohmError = Errors.builder()
-                            .errorMessage(
-                                    fieldError.getField() + " value:" + fieldError.getRejectedValue() + " is not valid")
-                            .build();
-                } else {
-                    ohmError = Errors.builder()
-                            .errorMessage(objectError.getDefaultMessage()).build();
-                }
-            } catch (Exception e) {
-                log.error(Arrays.toString(e.getStackTrace()));
+            if (collector.isFull()) {
+                collector.skipped(errorList.size() - index + duplicates);
+                break;
+            }
+            index++;
+            Errors ohmError = limits.limit(toErrors(objectError));
+            if (seen.add(ohmError)) {
+                collector.add(ohmError);
+            } else {
+                duplicates++;
             }
-            ohmErrorList.add(ohmError);
         }
-        return new ArrayList<>(ohmErrorList);
+        return collector;
+    }
+
+    /**
+     * Builds the errors of constraint violations within the current {@link ErrorPayloadLimits}. The violations are
+     * ordered by property path and message, so the same failure always renders the same body; beyond maxErrors only
+     * the first ones in that order are kept, without building the others. The total reported when truncated is the
+     * number of violations.
+     *
+     * @param violations
+     *            to take as input
+     *
+     * @return the collected errors with the truncation summary
+     */
+    public static ErrorCollector collectConstraintViolations(Set<? extends ConstraintViolation<?>> violations) {
+        return collectConstraintViolations(violations, errorPayloadLimits);
+    }
+
+    /**
+     * Builds the errors of constraint violations within the given limits, see
+     * {@link #collectConstraintViolations(Set)}
+     *
+     * @param violations
+     *            to take as input
+     * @param limits
+     *            to apply
+     *
+     * @return the collected errors with the truncation summary
+     */
+    public static ErrorCollector collectConstraintViolations(Set<? extends ConstraintViolation<?>> violations,
+                                                             ErrorPayloadLimits limits) {
+        int maxErrors = limits.getMaxErrors();
+        PriorityQueue<Violation> kept = new PriorityQueue<>(Math.min(violations.size(), maxErrors) + 1,
+                Violation.ORDER.reversed());
+        for (ConstraintViolation<?> constraintViolation : violations) {
+            Violation violation = new Violation(constraintViolation);
+            if (kept.size() < maxErrors) {
+                kept.add(violation);
+            } else if (Violation.ORDER.compare(violation, kept.peek()) < 0) {
+                kept.poll();
+                kept.add(violation);
+            }
+        }
+        Violation[] ordered = kept.toArray(new Violation[0]);
+        Arrays.sort(ordered, Violation.ORDER);
+        ErrorCollector collector = new ErrorCollector(ordered.length, maxErrors);
+        for (Violation violation : ordered) {
+            collector.add(Errors.builder().errorMessage(limits.limitMessage(violation.message)).build());
+        }
+        collector.skipped(violations.size() - ordered.length);
+        return collector;
+    }
+
+    /**
+     * Replaces the limits applied by the overloads of {@link #collectValidationErrors} and
+     * {@link #collectConstraintViolations} that take none. The handlers use the {@link ErrorPayloadLimits} bean when
+     * there is one.
+     *
+     * @param limits
+     *            to take as input
+     */
+    public static void setErrorPayloadLimits(ErrorPayloadLimits limits) {
+        errorPayloadLimits = Objects.requireNonNull(limits);
+    }
+
+    public static ErrorPayloadLimits getErrorPayloadLimits() {
+        return errorPayloadLimits;
+    }
+
+    /**
+     * @param collector
+     *            the errors of the response, may be null
+     *
+     * @return the {@code truncated} field of the ErrorResponse: true when errors were left out, null otherwise
+     */
+    public static Boolean truncatedOf(ErrorCollector collector) {
+        return collector != null && collector.isTruncated() ? Boolean.TRUE : null;
+    }
+
+    /**
+     * @param collector
+     *            the errors of the response, may be null
+     *
+     * @return the {@code totalErrors} field of the ErrorResponse: the count before truncation, null when nothing was
+     *         left out
+     */
+    public static Integer totalErrorsOf(ErrorCollector collector) {
+        return collector != null && collector.isTruncated() ? collector.getTotalErrors() : null;
+    }
+
+    private static Errors toErrors(ObjectError objectError) {
+        Errors ohmError = null;
+        try {
+            if (Objects.requireNonNull(objectError.getDefaultMessage()).startsWith("{")
+                    && Objects.requireNonNull(objectError.getDefaultMessage()).endsWith("}")) {
+                ohmError = ErrorsCacheHolder.ERRORS_CACHE.parse(objectError.getDefaultMessage());
+            } else if (objectError instanceof FieldError) {
+                FieldError fieldError = (FieldError) objectError;
+                ohmError = Errors.builder()
+                        .errorMessage(
+                                fieldError.getField() + " value:" + fieldError.getRejectedValue() + " is not valid")
+                        .build();
+            } else {
+                ohmError = Errors.builder()
+                        .errorMessage(objectError.getDefaultMessage()).build();
+            }
+        } catch (Exception e) {
+            ErrorLoggerHolder.ERROR_LOGGER.error("Failed to parse validation error message", e);
+        }
+        return ohmError;
+    }
+
+    /**
+     * Creates the ObjectMapper and the cache with the first validation message that is parsed
+     */
+    private static final class ErrorsCacheHolder {
+
+        private static final ErrorsCache ERRORS_CACHE = new ErrorsCache(new ObjectMapper());
     }
-}
 
+    /**
+     * Starts the logging thread with the first failure that is logged
+     */
+    private static final class ErrorLoggerHolder {
+
+        private static final SampledErrorLogger ERROR_LOGGER = new SampledErrorLogger(log);
+    }
+
+    private static final class Violation {
+
+        private static final Comparator<Violation> ORDER = Comparator
+                .comparing((Violation violation) -> violation.path, Comparator.nullsFirst(Comparator.naturalOrder()))
+                .thenComparing(violation -> violation.message, Comparator.nullsFirst(Comparator.naturalOrder()));
+
+        private final String path;
+        private final String message;
+
+        private Violation(ConstraintViolation<?> constraintViolation) {
+            this.path = constraintViolation.getPropertyPath() != null
+                    ? constraintViolation.getPropertyPath().toString() : null;
+            this.message = constraintViolation.getMessage();
+        }
+    }
+}
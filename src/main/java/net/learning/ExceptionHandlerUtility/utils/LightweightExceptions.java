@@ -0,0 +1,94 @@
+package net.learning.ExceptionHandlerUtility.utils;
+
+import net.learning.ExceptionHandlerUtility.model.DataInputs;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Switches controlling how {@link DataInputs} exceptions are constructed. In lightweight mode an exception does not
+ * capture a stack trace, which makes throwing it as ordinary control flow cheap. The mode can be enabled globally
+ * or per exception type; a per type setting always wins over the global one.
+ *
+ * Defaults are read from the system properties {@value #LIGHTWEIGHT_PROPERTY} and {@value #SUPPRESSION_PROPERTY}.
+ */
+public class LightweightExceptions {
+
+    public static final String LIGHTWEIGHT_PROPERTY = "exception-handler.lightweight";
+    public static final String SUPPRESSION_PROPERTY = "exception-handler.suppression-enabled";
+
+    private static final Map<Class<?>, Boolean> TYPE_OVERRIDES = new ConcurrentHashMap<>();
+
+    private static volatile boolean lightweight = Boolean.getBoolean(LIGHTWEIGHT_PROPERTY);
+    private static volatile boolean suppressionEnabled =
+            Boolean.parseBoolean(System.getProperty(SUPPRESSION_PROPERTY, "true"));
+
+    private LightweightExceptions() {
+        // No-OP
+    }
+
+    /**
+     * Enables or disables lightweight construction for every exception type without an override
+     *
+     * @param enabled
+     *            true to skip stack trace capture
+     */
+    public static void setLightweight(boolean enabled) {
+        lightweight = enabled;
+    }
+
+    /**
+     * Enables or disables lightweight construction for one exception type, overriding the global setting
+     *
+     * @param exceptionType
+     *            the exact exception class the override applies to
+     * @param enabled
+     *            true to skip stack trace capture
+     */
+    public static void setLightweight(Class<? extends DataInputs> exceptionType, boolean enabled) {
+        TYPE_OVERRIDES.put(exceptionType, enabled);
+    }
+
+    /**
+     * Removes the override of one exception type so that it follows the global setting again
+     *
+     * @param exceptionType
+     *            to take as input
+     */
+    public static void clearLightweight(Class<? extends DataInputs> exceptionType) {
+        TYPE_OVERRIDES.remove(exceptionType);
+    }
+
+    /**
+     * Enables or disables suppressed exceptions on newly constructed {@link DataInputs}
+     *
+     * @param enabled
+     *            false to make {@link Throwable#addSuppressed(Throwable)} a no-op
+     */
+    public static void setSuppressionEnabled(boolean enabled) {
+        suppressionEnabled = enabled;
+    }
+
+    /**
+     * To check whether exceptions of the given type skip stack trace capture
+     *
+     * @param exceptionType
+     *            to take as input
+     *
+     * @return true when lightweight mode applies
+     */
+    public static boolean isLightweight(Class<?> exceptionType) {
+        if (TYPE_OVERRIDES.isEmpty()) {
+            return lightweight;
+        }
+        Boolean override = TYPE_OVERRIDES.get(exceptionType);
+        return override != null ? override : lightweight;
+    }
+
+    /**
+     * @return true when newly constructed exceptions record suppressed exceptions
+     */
+    public static boolean isSuppressionEnabled() {
+        return suppressionEnabled;
+    }
+}
@@ -0,0 +1,175 @@
+package net.learning.ExceptionHandlerUtility.utils;
+
+import org.slf4j.Logger;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Error logger that keeps appender I/O off the request thread and repeated failures out of the log. Callers only
+ * offer the exception to a bounded queue; a daemon thread fingerprints it by type and top stack frames, logs the first
+ * occurrence with its stack trace and at most {@code logsPerInterval} occurrences per fingerprint and interval after
+ * that. Everything beyond the limit is counted and reported as one "N more occurrences" line per interval. When the
+ * queue is full the report is dropped and counted instead of blocking the caller.
+ */
+public class SampledErrorLogger {
+
+    private static final int FINGERPRINT_FRAMES = 3;
+    private static final int MAX_FINGERPRINTS = 1024;
+    private static final String OTHER_FINGERPRINT = "other";
+
+    private final Logger logger;
+    private final long intervalNanos;
+    private final int logsPerInterval;
+    private final BlockingQueue<Report> queue;
+    private final LongAdder dropped = new LongAdder();
+
+    /**
+     * Only touched by the logging thread
+     */
+    private final Map<String, FingerprintState> fingerprints = new HashMap<>();
+
+    /**
+     * Part of {@link #dropped} already reported in the log, only touched by the logging thread
+     */
+    private long droppedReported;
+
+    public SampledErrorLogger(Logger logger) {
+        this(logger, Duration.ofMinutes(1), 1, 1024);
+    }
+
+    public SampledErrorLogger(Logger logger, Duration interval, int logsPerInterval, int queueCapacity) {
+        this.logger = logger;
+        this.intervalNanos = interval.toNanos();
+        this.logsPerInterval = logsPerInterval;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        Thread thread = new Thread(this::run, "exception-handler-error-logger");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    /**
+     * Reports an error without blocking
+     *
+     * @param message
+     *            to log with the exception
+     * @param exception
+     *            to take as input
+     */
+    public void error(String message, Throwable exception) {
+        if (!queue.offer(new Report(message, exception, System.nanoTime()))) {
+            dropped.increment();
+        }
+    }
+
+    /**
+     * @return number of reports dropped because the queue was full since creation. The log reports the increase per
+     *         interval, this total is never reset
+     */
+    public long getDropped() {
+        return dropped.sum();
+    }
+
+    private void run() {
+        long nextFlush = System.nanoTime() + intervalNanos;
+        while (!Thread.currentThread().isInterrupted()) {
+            try {
+                Report report = queue.poll(Math.max(nextFlush - System.nanoTime(), 0), TimeUnit.NANOSECONDS);
+                if (report != null) {
+                    log(report);
+                }
+                if (System.nanoTime() - nextFlush >= 0) {
+                    flush();
+                    nextFlush = System.nanoTime() + intervalNanos;
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } catch (RuntimeException e) {
+                // the logging thread must survive a failing appender
+            }
+        }
+    }
+
+    private void log(Report report) {
+        String fingerprint = fingerprint(report.exception);
+        FingerprintState state = fingerprints.get(fingerprint);
+        if (state == null) {
+            if (fingerprints.size() >= MAX_FINGERPRINTS) {
+                fingerprint = OTHER_FINGERPRINT;
+                state = fingerprints.computeIfAbsent(fingerprint, key -> new FingerprintState());
+            } else {
+                fingerprints.put(fingerprint, new FingerprintState());
+                logger.error("{} [{}]", report.message, fingerprint, report.exception);
+                return;
+            }
+        }
+        if (state.logged < logsPerInterval) {
+            state.logged++;
+            logger.error("{} [{}]: {}", report.message, fingerprint, report.exception.toString());
+        } else {
+            state.suppressed++;
+        }
+        state.lastSeen = report.nanoTime;
+    }
+
+    private void flush() {
+        long now = System.nanoTime();
+        Iterator<Map.Entry<String, FingerprintState>> iterator = fingerprints.entrySet().iterator();
+        while (iterator.hasNext()) {
+            Map.Entry<String, FingerprintState> entry = iterator.next();
+            FingerprintState state = entry.getValue();
+            if (state.suppressed > 0) {
+                logger.warn("{} more occurrences of [{}] in the last {}s", state.suppressed, entry.getKey(),
+                        TimeUnit.NANOSECONDS.toSeconds(intervalNanos));
+            }
+            state.logged = 0;
+            state.suppressed = 0;
+            if (now - state.lastSeen > 10 * intervalNanos) {
+                iterator.remove();
+            }
+        }
+        long droppedTotal = dropped.sum();
+        long droppedReports = droppedTotal - droppedReported;
+        droppedReported = droppedTotal;
+        if (droppedReports > 0) {
+            logger.warn("{} error reports dropped, logging queue was full", droppedReports);
+        }
+    }
+
+    private static String fingerprint(Throwable exception) {
+        StringBuilder fingerprint = new StringBuilder(exception.getClass().getName());
+        StackTraceElement[] stackTrace = exception.getStackTrace();
+        for (int i = 0; i < Math.min(FINGERPRINT_FRAMES, stackTrace.length); i++) {
+            fingerprint.append(i == 0 ? " at " : " < ")
+                    .append(stackTrace[i].getClassName()).append('.').append(stackTrace[i].getMethodName())
+                    .append(':').append(stackTrace[i].getLineNumber());
+        }
+        return fingerprint.toString();
+    }
+
+    private static final class Report {
+
+        private final String message;
+        private final Throwable exception;
+        private final long nanoTime;
+
+        private Report(String message, Throwable exception, long nanoTime) {
+            this.message = message;
+            this.exception = exception;
+            this.nanoTime = nanoTime;
+        }
+    }
+
+    private static final class FingerprintState {
+
+        private int logged = 1;
+        private long suppressed;
+        private long lastSeen = System.nanoTime();
+    }
+}
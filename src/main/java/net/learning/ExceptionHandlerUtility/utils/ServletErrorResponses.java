@@ -0,0 +1,69 @@
+package net.learning.ExceptionHandlerUtility.utils;
+
+import net.learning.ExceptionHandlerUtility.model.ErrorResponse;
+import net.learning.ExceptionHandlerUtility.model.Errors;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Writes an ErrorResponse from a servlet filter, where no handler method or message converter is available, in the
+ * encoding the client prefers. The body is the same as the one rendered by the exception handlers.
+ */
+public class ServletErrorResponses {
+
+    private final ErrorResponseWriters errorResponseWriters;
+
+    public ServletErrorResponses(ErrorResponseWriters errorResponseWriters) {
+        this.errorResponseWriters = errorResponseWriters;
+    }
+
+    /**
+     * Writes a response with a single error
+     *
+     * @param request
+     *            the current request
+     * @param response
+     *            the response, not committed yet
+     * @param status
+     *            HTTP status and statusCode of the body
+     * @param errorMessage
+     *            message of the only error
+     *
+     * @throws IOException
+     *             when the response can not be written
+     */
+    public void write(HttpServletRequest request, HttpServletResponse response, HttpStatus status,
+                      String errorMessage) throws IOException {
+        ErrorResponse errorResponse = ErrorResponse.builder()
+                .method(HttpMethod.resolve(request.getMethod()))
+                .requestUri(request.getRequestURI())
+                .statusCode(status.name())
+                .timestamp(ExceptionHandlerHelperUtil.currentTimeStamp())
+                .errors(List.of(Errors.builder().errorMessage(errorMessage).build()))
+                .build();
+        ErrorResponseWriters.Format format = errorResponseWriters.select(acceptedMediaTypes(request));
+        ByteArrayOutputStream body = new ByteArrayOutputStream(256);
+        format.getWriter().write(errorResponse, body);
+        response.setStatus(status.value());
+        response.setContentType(format.getMediaType().toString());
+        response.setContentLength(body.size());
+        body.writeTo(response.getOutputStream());
+    }
+
+    private static List<MediaType> acceptedMediaTypes(HttpServletRequest request) {
+        try {
+            return MediaType.parseMediaTypes(request.getHeader(HttpHeaders.ACCEPT));
+        } catch (InvalidMediaTypeException e) {
+            return List.of();
+        }
+    }
+}
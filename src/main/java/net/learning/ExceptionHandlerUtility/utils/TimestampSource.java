@@ -0,0 +1,13 @@
+package net.learning.ExceptionHandlerUtility.utils;
+
+/**
+ * Source of the timestamp written into every ErrorResponse, formatted as {@link Constants#TIME_STAMP_FORMAT}
+ */
+@FunctionalInterface
+public interface TimestampSource {
+
+    /**
+     * @return the current time stamp
+     */
+    String currentTimeStamp();
+}
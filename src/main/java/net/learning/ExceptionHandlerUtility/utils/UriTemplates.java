@@ -0,0 +1,32 @@
+package net.learning.ExceptionHandlerUtility.utils;
+
+import org.springframework.web.servlet.HandlerMapping;
+
+import javax.servlet.http.HttpServletRequest;
+
+/**
+ * Resolves the request mapping pattern of a request, e.g. {@code /users/{id}} instead of {@code /users/42}, so it can
+ * be used as a low-cardinality metric tag
+ */
+public final class UriTemplates {
+
+    /**
+     * Used when no handler matched the request, e.g. for 404s
+     */
+    public static final String UNMAPPED = "UNMAPPED";
+
+    private UriTemplates() {
+        // No-OP
+    }
+
+    /**
+     * @param request
+     *            to take as input, may be null
+     *
+     * @return the best matching pattern, or {@link #UNMAPPED}
+     */
+    public static String of(HttpServletRequest request) {
+        Object pattern = request != null ? request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE) : null;
+        return pattern != null ? pattern.toString() : UNMAPPED;
+    }
+}
@@ -0,0 +1,187 @@
+package net.learning.ExceptionHandlerUtility.circuitbreaker;
+
+import com.sun.net.httpserver.HttpServer;
+import net.learning.ExceptionHandlerUtility.exceptions.TimeOutException;
+import net.learning.ExceptionHandlerUtility.handler.GlobalExceptionHandler;
+import net.learning.ExceptionHandlerUtility.model.ErrorResponse;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.RestTemplate;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import java.net.InetSocketAddress;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CircuitBreakerClientHttpRequestInterceptorTest {
+
+    private static final Duration OPEN_DURATION = Duration.ofMillis(300);
+    private static final Duration PROBE_TIMEOUT = Duration.ofMillis(300);
+
+    private final AtomicBoolean failing = new AtomicBoolean();
+    private final AtomicInteger received = new AtomicInteger();
+    private final AtomicReference<CircuitBreaker.State> stateDuringCall = new AtomicReference<>();
+
+    private HttpServer server;
+    private CircuitBreakerRegistry registry;
+    private RestTemplate restTemplate;
+    private String url;
+
+    @BeforeEach
+    void startServer() throws Exception {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/", exchange -> {
+            received.incrementAndGet();
+            stateDuringCall.set(circuitBreaker().getState());
+            if (failing.get()) {
+                // no response at all: the client sees the connection close, an I/O failure
+                exchange.close();
+                return;
+            }
+            exchange.sendResponseHeaders(200, -1);
+            exchange.close();
+        });
+        server.start();
+        url = "http://127.0.0.1:" + server.getAddress().getPort() + "/";
+
+        CircuitBreakerSettings settings = new CircuitBreakerSettings();
+        settings.setMinimumCalls(4);
+        settings.setFailureRateThreshold(0.5);
+        settings.setOpenDuration(OPEN_DURATION);
+        settings.setProbeTimeout(PROBE_TIMEOUT);
+        registry = new CircuitBreakerRegistry(settings);
+        restTemplate = new RestTemplate();
+        restTemplate.getInterceptors().add(new CircuitBreakerClientHttpRequestInterceptor(registry));
+    }
+
+    @AfterEach
+    void stopServer() {
+        server.stop(0);
+    }
+
+    @Test
+    void opensOnFailuresAndClosesAfterASuccessfulProbe() throws Exception {
+        failing.set(true);
+        for (int i = 0; i < 4; i++) {
+            assertThatThrownBy(this::call).isInstanceOf(ResourceAccessException.class)
+                    .isNotInstanceOf(CircuitOpenException.class);
+        }
+        assertThat(circuitBreaker().getState()).isEqualTo(CircuitBreaker.State.OPEN);
+
+        int receivedBeforeOpen = received.get();
+        long startNanos = System.nanoTime();
+        assertThatThrownBy(this::call).isInstanceOf(CircuitOpenException.class);
+        assertThat(Duration.ofNanos(System.nanoTime() - startNanos)).isLessThan(OPEN_DURATION);
+        assertThat(received).hasValue(receivedBeforeOpen);
+
+        Thread.sleep(OPEN_DURATION.toMillis() + 50);
+        failing.set(false);
+        call();
+
+        assertThat(stateDuringCall).hasValue(CircuitBreaker.State.HALF_OPEN);
+        assertThat(circuitBreaker().getState()).isEqualTo(CircuitBreaker.State.CLOSED);
+        call();
+        assertThat(received).hasValue(receivedBeforeOpen + 2);
+    }
+
+    @Test
+    void failedProbeOpensTheCircuitAgain() throws Exception {
+        openCircuit();
+        Thread.sleep(OPEN_DURATION.toMillis() + 50);
+
+        assertThatThrownBy(this::call).isNotInstanceOf(CircuitOpenException.class);
+
+        assertThat(circuitBreaker().getState()).isEqualTo(CircuitBreaker.State.OPEN);
+        assertThatThrownBy(this::call).isInstanceOf(CircuitOpenException.class);
+    }
+
+    @Test
+    void expiredDeadlineDuringTheProbeHandsTheProbeOn() throws Exception {
+        openCircuit();
+        Thread.sleep(OPEN_DURATION.toMillis() + 50);
+        restTemplate.getInterceptors().add((request, body, execution) -> {
+            throw TimeOutException.shared();
+        });
+
+        assertThatThrownBy(this::call).isInstanceOf(TimeOutException.class);
+
+        assertThat(circuitBreaker().getState()).isEqualTo(CircuitBreaker.State.HALF_OPEN);
+        restTemplate.getInterceptors().remove(1);
+        failing.set(false);
+        call();
+        assertThat(circuitBreaker().getState()).isEqualTo(CircuitBreaker.State.CLOSED);
+    }
+
+    @Test
+    void expiredDeadlinesDoNotOpenTheCircuit() {
+        restTemplate.getInterceptors().add((request, body, execution) -> {
+            throw TimeOutException.shared();
+        });
+
+        for (int i = 0; i < 10; i++) {
+            assertThatThrownBy(this::call).isInstanceOf(TimeOutException.class);
+        }
+
+        assertThat(circuitBreaker().getState()).isEqualTo(CircuitBreaker.State.CLOSED);
+        assertThat(received).hasValue(0);
+    }
+
+    @Test
+    void probeWithoutOutcomeIsGivenUpAfterTheProbeTimeout() throws Exception {
+        openCircuit();
+        Thread.sleep(OPEN_DURATION.toMillis() + 50);
+        circuitBreaker().acquirePermission();
+
+        assertThatThrownBy(this::call).isInstanceOf(CircuitOpenException.class);
+        Thread.sleep(PROBE_TIMEOUT.toMillis() + 50);
+        failing.set(false);
+        call();
+
+        assertThat(circuitBreaker().getState()).isEqualTo(CircuitBreaker.State.CLOSED);
+    }
+
+    @Test
+    void shortCircuitedCallIsAnsweredWithRetryAfter() {
+        openCircuit();
+        CircuitOpenException circuitOpenException = null;
+        try {
+            call();
+        } catch (CircuitOpenException e) {
+            circuitOpenException = e;
+        }
+        assertThat(circuitOpenException).isNotNull();
+
+        ResponseEntity<ErrorResponse> response = new GlobalExceptionHandler().handleResourceAccessException(
+                circuitOpenException, new ServletWebRequest(new MockHttpServletRequest("GET", "/orders")));
+
+        assertThat(response.getHeaders().getFirst(HttpHeaders.RETRY_AFTER)).isEqualTo("1");
+        assertThat(response.getBody().getErrors().get(0).getErrorMessage())
+                .isEqualTo("Circuit open for " + circuitBreaker().getHost());
+    }
+
+    private void openCircuit() {
+        failing.set(true);
+        for (int i = 0; i < 4; i++) {
+            assertThatThrownBy(this::call).isInstanceOf(ResourceAccessException.class);
+        }
+        assertThat(circuitBreaker().getState()).isEqualTo(CircuitBreaker.State.OPEN);
+    }
+
+    private void call() {
+        restTemplate.getForEntity(url, String.class);
+    }
+
+    private CircuitBreaker circuitBreaker() {
+        return registry.forHost("127.0.0.1:" + server.getAddress().getPort());
+    }
+}
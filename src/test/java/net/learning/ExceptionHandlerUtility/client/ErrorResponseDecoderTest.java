@@ -0,0 +1,104 @@
+package net.learning.ExceptionHandlerUtility.client;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import net.learning.ExceptionHandlerUtility.model.ErrorResponse;
+import net.learning.ExceptionHandlerUtility.model.Errors;
+import net.learning.ExceptionHandlerUtility.model.ItemErrors;
+import net.learning.ExceptionHandlerUtility.utils.ErrorResponseFormats;
+import net.learning.ExceptionHandlerUtility.utils.ErrorResponseWriters;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.client.HttpClientErrorException;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ErrorResponseDecoderTest {
+
+    private static final ErrorResponse TRUNCATED = ErrorResponse.builder()
+            .method(HttpMethod.POST)
+            .requestUri("/orders/import")
+            .statusCode(HttpStatus.BAD_REQUEST.name())
+            .timestamp("2024-01-01T00:00:00")
+            .errors(Arrays.asList(new ItemErrors(0, "quantity must be positive"),
+                    Errors.builder().errorMessage("customer é中😀 is required").build(),
+                    Errors.builder().build()))
+            .truncated(true)
+            .totalErrors(50_000)
+            .build();
+
+    private final ErrorResponseWriters writers = ErrorResponseWriters.of(new ObjectMapper());
+    private final ErrorResponseDecoder decoder = new ErrorResponseDecoder();
+
+    @ParameterizedTest
+    @ValueSource(strings = { "application/json", "application/cbor", "application/x-jackson-smile" })
+    void decodesWhatTheServerEncoded(String accept) throws IOException {
+        ErrorResponseWriters.Format format = writers.select(MediaType.parseMediaTypes(accept));
+        assertThat(format.getMediaType()).isEqualTo(MediaType.parseMediaType(accept));
+        ByteArrayOutputStream body = new ByteArrayOutputStream();
+        format.getWriter().write(TRUNCATED, body);
+
+        ErrorResponse decoded = decoder.decode(body.toByteArray(), format.getMediaType());
+
+        assertThat(decoded).isEqualTo(TRUNCATED);
+        assertThat(decoded.getErrors().get(0)).isInstanceOf(ItemErrors.class);
+    }
+
+    @Test
+    void binaryEncodingsAreSmallerThanJson() throws IOException {
+        int json = encodedSize(MediaType.APPLICATION_JSON);
+
+        assertThat(encodedSize(ErrorResponseFormats.APPLICATION_CBOR)).isLessThan(json);
+        assertThat(encodedSize(ErrorResponseFormats.APPLICATION_SMILE)).isLessThan(json);
+    }
+
+    @Test
+    void completeResponseDecodesWithoutTheSummary() throws IOException {
+        byte[] body = ("{\"method\":\"GET\",\"requestUri\":\"/orders/42\",\"statusCode\":\"NOT_FOUND\","
+                + "\"timestamp\":\"2024-01-01T00:00:00\",\"errors\":[{\"errorMessage\":\"order 42 not found\"}]}")
+                .getBytes(StandardCharsets.UTF_8);
+
+        ErrorResponse decoded = decoder.decode(body, null);
+
+        assertThat(decoded.getErrors()).containsExactly(new Errors("order 42 not found"));
+        assertThat(decoded.getTruncated()).isNull();
+        assertThat(decoded.getTotalErrors()).isNull();
+    }
+
+    @Test
+    void decodesTheBodyOfARestClientException() throws IOException {
+        ByteArrayOutputStream body = new ByteArrayOutputStream();
+        writers.select(List.of(ErrorResponseFormats.APPLICATION_SMILE)).getWriter().write(TRUNCATED, body);
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(ErrorResponseFormats.APPLICATION_SMILE);
+
+        ErrorResponse decoded = decoder.decode(HttpClientErrorException.create(HttpStatus.BAD_REQUEST, "Bad Request",
+                headers, body.toByteArray(), null));
+
+        assertThat(decoded).isEqualTo(TRUNCATED);
+    }
+
+    @Test
+    void acceptHeaderPrefersTheBinaryEncodings() {
+        List<MediaType> accepted = MediaType.parseMediaTypes(decoder.acceptHeader());
+
+        assertThat(writers.select(accepted).getMediaType()).isEqualTo(ErrorResponseFormats.APPLICATION_CBOR);
+        assertThat(accepted).contains(ErrorResponseFormats.APPLICATION_SMILE);
+    }
+
+    private int encodedSize(MediaType mediaType) throws IOException {
+        ByteArrayOutputStream body = new ByteArrayOutputStream();
+        writers.select(List.of(mediaType)).getWriter().write(TRUNCATED, body);
+        return body.size();
+    }
+}
@@ -0,0 +1,69 @@
+package net.learning.ExceptionHandlerUtility.config;
+
+import net.learning.ExceptionHandlerUtility.diagnostics.RecentErrorsEndpoint;
+import net.learning.ExceptionHandlerUtility.handler.ErrorResponseHttpMessageConverter;
+import net.learning.ExceptionHandlerUtility.handler.GlobalExceptionHandler;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.test.context.runner.WebApplicationContextRunner;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.StringHttpMessageConverter;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ExceptionHandlerAutoConfigurationTest {
+
+    private final WebApplicationContextRunner runner = new WebApplicationContextRunner()
+            .withConfiguration(AutoConfigurations.of(ExceptionHandlerAutoConfiguration.class));
+
+    @Test
+    void recentErrorsEndpointDoesNotCreateTheBufferAtStartup() {
+        runner.run(context -> {
+            assertThat(context).hasSingleBean(RecentErrorsEndpoint.class);
+            assertThat(context.getBeanFactory().containsSingleton("recentErrorsBuffer")).isFalse();
+
+            assertThat(context.getBean(RecentErrorsEndpoint.class).recentErrors(null, null))
+                    .containsEntry("recorded", 0L);
+            assertThat(context.getBeanFactory().containsSingleton("recentErrorsBuffer")).isTrue();
+        });
+    }
+
+    @Test
+    void handlerRegisteredByTheApplicationIsNotRegisteredAgain() {
+        runner.withUserConfiguration(ScannedHandlerConfiguration.class).run(context ->
+                assertThat(context).hasSingleBean(GlobalExceptionHandler.class));
+    }
+
+    @Test
+    void convertersAreAddedOnce() {
+        runner.run(context -> {
+            ErrorResponseConverterConfiguration configuration =
+                    context.getBean(ErrorResponseConverterConfiguration.class);
+            List<HttpMessageConverter<?>> converters = new ArrayList<>(List.of(new StringHttpMessageConverter()));
+
+            configuration.extendMessageConverters(converters);
+            int registered = converters.size();
+            configuration.extendMessageConverters(converters);
+
+            assertThat(converters).hasSize(registered);
+            assertThat(converters.get(0)).isInstanceOf(ErrorResponseHttpMessageConverter.class);
+            assertThat(converters.get(registered - 1)).isInstanceOf(StringHttpMessageConverter.class);
+        });
+    }
+
+    @Test
+    void converterCanBeSwitchedOff() {
+        runner.withPropertyValues("exception-handler.converter.enabled=false").run(context ->
+                assertThat(context).doesNotHaveBean(ErrorResponseConverterConfiguration.class));
+    }
+
+    @Configuration(proxyBeanMethods = false)
+    @Import(GlobalExceptionHandler.class)
+    static class ScannedHandlerConfiguration {
+    }
+}
@@ -0,0 +1,70 @@
+package net.learning.ExceptionHandlerUtility.deadline;
+
+import net.learning.ExceptionHandlerUtility.exceptions.TimeOutException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class DeadlineClientHttpRequestFactoryTest {
+
+    private final DeadlineClientHttpRequestFactory factory = new DeadlineClientHttpRequestFactory();
+
+    @AfterEach
+    void clearDeadline() {
+        DeadlineContext.clear();
+    }
+
+    @Test
+    void timeoutsAreLeftAloneWithoutDeadline() throws Exception {
+        factory.setConnectTimeout(5000);
+        factory.setReadTimeout(0);
+
+        HttpURLConnection connection = prepared();
+
+        assertThat(connection.getConnectTimeout()).isEqualTo(5000);
+        assertThat(connection.getReadTimeout()).isZero();
+    }
+
+    @Test
+    void timeoutsAreBoundedByTheRemainingBudget() throws Exception {
+        factory.setConnectTimeout(5000);
+        factory.setReadTimeout(0);
+        DeadlineContext.set(Deadline.after(Duration.ofMillis(200)));
+
+        HttpURLConnection connection = prepared();
+
+        assertThat(connection.getConnectTimeout()).isBetween(1, 200);
+        assertThat(connection.getReadTimeout()).isBetween(1, 200);
+    }
+
+    @Test
+    void shorterConfiguredTimeoutsAreKept() throws Exception {
+        factory.setConnectTimeout(100);
+        factory.setReadTimeout(150);
+        DeadlineContext.set(Deadline.after(Duration.ofSeconds(10)));
+
+        HttpURLConnection connection = prepared();
+
+        assertThat(connection.getConnectTimeout()).isEqualTo(100);
+        assertThat(connection.getReadTimeout()).isEqualTo(150);
+    }
+
+    @Test
+    void expiredDeadlineFailsBeforeConnecting() throws Exception {
+        DeadlineContext.set(Deadline.after(Duration.ZERO));
+
+        assertThatThrownBy(this::prepared).isSameAs(TimeOutException.shared());
+    }
+
+    private HttpURLConnection prepared() throws Exception {
+        HttpURLConnection connection = (HttpURLConnection) new URL("http://127.0.0.1:1/reports").openConnection();
+        factory.prepareConnection(connection, "GET");
+        return connection;
+    }
+}
@@ -0,0 +1,98 @@
+package net.learning.ExceptionHandlerUtility.deadline;
+
+import net.learning.ExceptionHandlerUtility.exceptions.TimeOutException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class DeadlineContextTest {
+
+    @AfterEach
+    void clearDeadline() {
+        DeadlineContext.clear();
+    }
+
+    @Test
+    void deadlineCountsDownAndExpires() throws Exception {
+        Deadline deadline = Deadline.after(Duration.ofMillis(50));
+
+        assertThat(deadline.isExpired()).isFalse();
+        assertThat(deadline.remainingMillis()).isBetween(1L, 50L);
+        assertThatCode(deadline::check).doesNotThrowAnyException();
+
+        Thread.sleep(60);
+
+        assertThat(deadline.isExpired()).isTrue();
+        assertThat(deadline.remainingNanos()).isZero();
+        assertThatThrownBy(deadline::check).isSameAs(TimeOutException.shared());
+    }
+
+    @Test
+    void minTakesTheEarlierDeadline() {
+        Deadline early = Deadline.after(Duration.ofSeconds(1));
+        Deadline late = Deadline.after(Duration.ofSeconds(10));
+
+        assertThat(early.min(late)).isSameAs(early);
+        assertThat(late.min(early)).isSameAs(early);
+        assertThat(late.min(null)).isSameAs(late);
+    }
+
+    @Test
+    void checkWithoutDeadlinePasses() {
+        assertThat(DeadlineContext.current()).isNull();
+        assertThat(DeadlineContext.remaining()).isEmpty();
+        assertThatCode(DeadlineContext::check).doesNotThrowAnyException();
+    }
+
+    @Test
+    void wrappedTaskRunsWithTheCallersDeadlineOnAnotherThread() throws Exception {
+        Deadline deadline = Deadline.after(Duration.ofSeconds(10));
+        DeadlineContext.set(deadline);
+        AtomicReference<Deadline> seen = new AtomicReference<>();
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            executor.submit(DeadlineContext.wrap(() -> seen.set(DeadlineContext.current()))).get();
+            Future<Deadline> afterwards = executor.submit((Callable<Deadline>) DeadlineContext::current);
+
+            assertThat(seen).hasValue(deadline);
+            assertThat(afterwards.get()).isNull();
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void wrappedTaskIsSkippedOnceTheDeadlinePassed() throws Exception {
+        DeadlineContext.set(Deadline.after(Duration.ofMillis(10)));
+        AtomicBoolean ran = new AtomicBoolean();
+        Runnable runnable = DeadlineContext.wrap(() -> ran.set(true));
+        Callable<String> callable = DeadlineContext.wrap(() -> "result");
+        DeadlineContext.clear();
+        Thread.sleep(20);
+
+        assertThatThrownBy(runnable::run).isSameAs(TimeOutException.shared());
+        assertThatThrownBy(callable::call).isSameAs(TimeOutException.shared());
+        assertThat(ran).isFalse();
+        assertThat(DeadlineContext.current()).isNull();
+    }
+
+    @Test
+    void wrapWithoutDeadlineReturnsTheTask() {
+        Runnable runnable = () -> { };
+        Callable<String> callable = () -> "result";
+
+        assertThat(DeadlineContext.wrap(runnable)).isSameAs(runnable);
+        assertThat(DeadlineContext.wrap(callable)).isSameAs(callable);
+    }
+}
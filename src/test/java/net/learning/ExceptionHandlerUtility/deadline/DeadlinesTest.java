@@ -0,0 +1,102 @@
+package net.learning.ExceptionHandlerUtility.deadline;
+
+import net.learning.ExceptionHandlerUtility.exceptions.TimeOutException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockAsyncContext;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.context.request.async.DeferredResult;
+import org.springframework.web.context.request.async.StandardServletAsyncWebRequest;
+import org.springframework.web.context.request.async.WebAsyncManager;
+import org.springframework.web.context.request.async.WebAsyncUtils;
+
+import javax.servlet.AsyncEvent;
+import javax.servlet.AsyncListener;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class DeadlinesTest {
+
+    @AfterEach
+    void clearDeadline() {
+        DeadlineContext.clear();
+    }
+
+    @Test
+    void futureWithoutDeadlineIsReturnedUnchanged() {
+        CompletableFuture<String> future = new CompletableFuture<>();
+
+        assertThat(Deadlines.withDeadline(future)).isSameAs(future);
+    }
+
+    @Test
+    void futureCompletingInTimeKeepsItsResult() throws Exception {
+        DeadlineContext.set(Deadline.after(Duration.ofSeconds(10)));
+        CompletableFuture<String> future = new CompletableFuture<>();
+
+        CompletableFuture<String> bounded = Deadlines.withDeadline(future);
+        future.complete("report");
+
+        assertThat(bounded.get()).isEqualTo("report");
+    }
+
+    @Test
+    void futureFailingInTimeKeepsItsFailure() {
+        DeadlineContext.set(Deadline.after(Duration.ofSeconds(10)));
+        CompletableFuture<String> future = new CompletableFuture<>();
+        IllegalStateException failure = new IllegalStateException("downstream failed");
+
+        CompletableFuture<String> bounded = Deadlines.withDeadline(future);
+        future.completeExceptionally(failure);
+
+        assertThatThrownBy(bounded::get).isInstanceOf(ExecutionException.class).hasCause(failure);
+    }
+
+    @Test
+    void futurePastTheDeadlineFailsWithTimeOutAndIsCancelled() {
+        DeadlineContext.set(Deadline.after(Duration.ofMillis(50)));
+        CompletableFuture<String> future = new CompletableFuture<>();
+
+        CompletableFuture<String> bounded = Deadlines.withDeadline(future);
+
+        assertThatThrownBy(bounded::get).isInstanceOf(ExecutionException.class)
+                .getCause().isSameAs(TimeOutException.shared());
+        assertThat(future).isCancelled();
+    }
+
+    @Test
+    void deferredResultWithoutDeadlineKeepsTheContainerTimeout() throws Exception {
+        long containerTimeout = new MockAsyncContext(new MockHttpServletRequest(), null).getTimeout();
+
+        assertThat(start(Deadlines.deferredResult()).getTimeout()).isEqualTo(containerTimeout);
+    }
+
+    @Test
+    void deferredResultTimesOutWithTimeOutExceptionAtTheDeadline() throws Exception {
+        DeadlineContext.set(Deadline.after(Duration.ofMillis(500)));
+        DeferredResult<String> result = Deadlines.deferredResult();
+
+        MockAsyncContext asyncContext = start(result);
+        assertThat(asyncContext.getTimeout()).isBetween(1L, 500L);
+        for (AsyncListener listener : asyncContext.getListeners()) {
+            listener.onTimeout(new AsyncEvent(asyncContext));
+        }
+
+        assertThat(WebAsyncUtils.getAsyncManager(asyncContext.getRequest()).getConcurrentResult())
+                .isSameAs(TimeOutException.shared());
+    }
+
+    private static MockAsyncContext start(DeferredResult<?> result) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setAsyncSupported(true);
+        WebAsyncManager asyncManager = WebAsyncUtils.getAsyncManager(request);
+        asyncManager.setAsyncWebRequest(new StandardServletAsyncWebRequest(request, new MockHttpServletResponse()));
+        asyncManager.startDeferredResultProcessing(result);
+        return (MockAsyncContext) request.getAsyncContext();
+    }
+}
@@ -0,0 +1,84 @@
+package net.learning.ExceptionHandlerUtility.deadline;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import javax.servlet.FilterChain;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RequestDeadlineFilterTest {
+
+    private static final String HEADER = "X-Request-Timeout";
+
+    private final RequestDeadlineFilter filter = new RequestDeadlineFilter(HEADER, Duration.ofSeconds(5),
+            Duration.ofSeconds(10));
+
+    @Test
+    void budgetIsTakenFromTheHeader() throws Exception {
+        Deadline deadline = deadlineOf(filter, "250");
+
+        assertThat(deadline.remainingMillis()).isBetween(1L, 250L);
+    }
+
+    @Test
+    void budgetIsCappedAtTheMaximum() throws Exception {
+        Deadline deadline = deadlineOf(filter, "60000");
+
+        assertThat(deadline.remainingMillis()).isBetween(9_000L, 10_000L);
+    }
+
+    @Test
+    void missingOrMalformedHeaderFallsBackToTheDefault() throws Exception {
+        assertThat(deadlineOf(filter, null).remainingMillis()).isBetween(4_000L, 5_000L);
+        assertThat(deadlineOf(filter, "  ").remainingMillis()).isBetween(4_000L, 5_000L);
+        assertThat(deadlineOf(filter, "soon").remainingMillis()).isBetween(4_000L, 5_000L);
+    }
+
+    @Test
+    void negativeBudgetIsAlreadyExpired() throws Exception {
+        assertThat(deadlineOf(filter, "-5").isExpired()).isTrue();
+    }
+
+    @Test
+    void noDefaultLeavesRequestsWithoutHeaderUnbounded() throws Exception {
+        RequestDeadlineFilter withoutDefault = new RequestDeadlineFilter(HEADER, null, null);
+
+        assertThat(deadlineOf(withoutDefault, null)).isNull();
+        assertThat(deadlineOf(withoutDefault, "60000").remainingMillis()).isBetween(59_000L, 60_000L);
+    }
+
+    @Test
+    void previousDeadlineIsRestoredAfterTheRequest() throws Exception {
+        Deadline outer = Deadline.after(Duration.ofMinutes(1));
+        DeadlineContext.set(outer);
+        try {
+            Deadline inner = deadlineOf(filter, "250");
+
+            assertThat(inner).isNotSameAs(outer);
+            assertThat(DeadlineContext.current()).isSameAs(outer);
+        } finally {
+            DeadlineContext.clear();
+        }
+    }
+
+    /**
+     * @return the deadline seen by the rest of the chain, which must match the request attribute
+     */
+    private static Deadline deadlineOf(RequestDeadlineFilter filter, String header) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/reports/7");
+        if (header != null) {
+            request.addHeader(HEADER, header);
+        }
+        AtomicReference<Deadline> seen = new AtomicReference<>();
+        FilterChain chain = (servletRequest, servletResponse) -> seen.set(DeadlineContext.current());
+
+        filter.doFilter(request, new MockHttpServletResponse(), chain);
+
+        assertThat(request.getAttribute(RequestDeadlineFilter.DEADLINE_ATTRIBUTE)).isSameAs(seen.get());
+        return seen.get();
+    }
+}
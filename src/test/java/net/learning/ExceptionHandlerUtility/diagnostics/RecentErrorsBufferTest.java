@@ -0,0 +1,119 @@
+package net.learning.ExceptionHandlerUtility.diagnostics;
+
+import net.learning.ExceptionHandlerUtility.exceptions.DataNotFoundException;
+import net.learning.ExceptionHandlerUtility.exceptions.ValidationException;
+import net.learning.ExceptionHandlerUtility.model.Errors;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RecentErrorsBufferTest {
+
+    private static final int WRITERS = 8;
+    private static final int EVENTS_PER_WRITER = 250_000;
+    private static final HttpStatus[] STATUSES = { HttpStatus.BAD_REQUEST, HttpStatus.NOT_FOUND,
+            HttpStatus.CONFLICT, HttpStatus.INTERNAL_SERVER_ERROR, HttpStatus.GATEWAY_TIMEOUT };
+    private static final Throwable[] EXCEPTIONS = { new ValidationException(List.of()),
+            new DataNotFoundException(List.of()) };
+
+    @Test
+    void concurrentWritersNeverProduceTornReads() throws Exception {
+        RecentErrorsBuffer buffer = new RecentErrorsBuffer(64);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicBoolean writing = new AtomicBoolean(true);
+        AtomicReference<String> tornRead = new AtomicReference<>();
+        AtomicLong eventsRead = new AtomicLong();
+
+        Thread reader = new Thread(() -> {
+            while (writing.get() && tornRead.get() == null) {
+                long previousSequence = Long.MAX_VALUE;
+                for (RecentError event : buffer.last(buffer.capacity())) {
+                    String problem = check(event, previousSequence);
+                    if (problem != null) {
+                        tornRead.compareAndSet(null, problem);
+                    }
+                    previousSequence = event.getSequence();
+                    eventsRead.incrementAndGet();
+                }
+            }
+        });
+        List<Thread> writers = new ArrayList<>();
+        for (int w = 0; w < WRITERS; w++) {
+            int writer = w;
+            Thread thread = new Thread(() -> {
+                await(start);
+                for (int i = 0; i < EVENTS_PER_WRITER; i++) {
+                    String uri = "/w" + writer + "/" + i;
+                    buffer.onErrorHandled(EXCEPTIONS[i % EXCEPTIONS.length], STATUSES[i % STATUSES.length], uri,
+                            List.of(Errors.builder().errorMessage(uri).build()), 0);
+                }
+            });
+            writers.add(thread);
+            thread.start();
+        }
+        reader.start();
+        start.countDown();
+        for (Thread thread : writers) {
+            thread.join();
+        }
+        writing.set(false);
+        reader.join();
+
+        assertThat(tornRead.get()).isNull();
+        assertThat(eventsRead.get()).isPositive();
+        assertThat(buffer.getRecorded()).isEqualTo((long) WRITERS * EVENTS_PER_WRITER);
+        assertThat(buffer.last(buffer.capacity())).isNotEmpty()
+                .allSatisfy(event -> assertThat(check(event, Long.MAX_VALUE)).isNull());
+    }
+
+    @Test
+    void endpointClampsLimitAndTopToTheCapacity() {
+        RecentErrorsBuffer buffer = new RecentErrorsBuffer(4);
+        for (int i = 0; i < 10; i++) {
+            buffer.onErrorHandled(EXCEPTIONS[0], HttpStatus.BAD_REQUEST, "/orders/" + i, List.of(), 0);
+        }
+        RecentErrorsEndpoint endpoint = new RecentErrorsEndpoint(buffer);
+
+        Map<String, Object> negative = endpoint.recentErrors(-1, -1);
+        Map<String, Object> huge = endpoint.recentErrors(Integer.MAX_VALUE, Integer.MAX_VALUE);
+
+        assertThat((List<?>) negative.get("events")).isEmpty();
+        assertThat((List<?>) negative.get("top")).isEmpty();
+        assertThat((List<?>) huge.get("events")).hasSize(4);
+        assertThat((List<?>) huge.get("top")).hasSize(4);
+    }
+
+    /**
+     * Every field of an event is derived from its URI, so a mix of two writes shows up as a mismatch
+     */
+    private static String check(RecentError event, long previousSequence) {
+        if (event.getSequence() >= previousSequence) {
+            return "sequence " + event.getSequence() + " after " + previousSequence;
+        }
+        String uri = event.getUriTemplate();
+        int i = Integer.parseInt(uri.substring(uri.lastIndexOf('/') + 1));
+        if (!uri.equals(event.getMessage())
+                || event.getStatus() != STATUSES[i % STATUSES.length].value()
+                || !event.getException().equals(EXCEPTIONS[i % EXCEPTIONS.length].getClass().getName())) {
+            return "torn read " + event;
+        }
+        return null;
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,110 @@
+package net.learning.ExceptionHandlerUtility.guard;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import net.learning.ExceptionHandlerUtility.utils.Constants;
+import net.learning.ExceptionHandlerUtility.utils.ErrorResponseWriters;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import javax.servlet.ReadListener;
+import javax.servlet.ServletInputStream;
+import javax.servlet.ServletRequest;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RequestBodyGuardFilterTest {
+
+    private final RequestBodyGuardFilter filter = new RequestBodyGuardFilter(
+            ErrorResponseWriters.of(new ObjectMapper()), 64, 2, List.of());
+
+    @Test
+    void bodyWithoutContentLengthOrTransferEncodingIsChecked() throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        MockFilterChain chain = new MockFilterChain();
+
+        filter.doFilter(withoutContentLength("POST", "{\"a\":{\"b\":{\"c\":1}}}"), response, chain);
+
+        assertThat(response.getStatus()).isEqualTo(400);
+        assertThat(response.getContentAsString()).contains(Constants.BODY_TOO_DEEP_ERROR_MESSAGE);
+        assertThat(chain.getRequest()).isNull();
+        assertThat(filter.getRejections()).isEqualTo(1);
+    }
+
+    @Test
+    void bodyWithoutContentLengthIsLimitedToTheMaximumSize() throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        filter.doFilter(withoutContentLength("PUT", "[\"" + "x".repeat(100) + "\"]"), response,
+                new MockFilterChain());
+
+        assertThat(response.getStatus()).isEqualTo(400);
+        assertThat(response.getContentAsString()).contains(Constants.BODY_TOO_LARGE_ERROR_MESSAGE);
+    }
+
+    @Test
+    void emptyBodyWithoutContentLengthIsPassedOn() throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        MockFilterChain chain = new MockFilterChain();
+
+        filter.doFilter(withoutContentLength("DELETE", ""), response, chain);
+
+        assertThat(response.getStatus()).isEqualTo(200);
+        assertThat(chain.getRequest()).isNotNull();
+        assertThat(filter.getRejections()).isZero();
+    }
+
+    @Test
+    void cachedBodyNotifiesTheReadListener() throws Exception {
+        MockFilterChain chain = new MockFilterChain();
+        filter.doFilter(withoutContentLength("POST", "{\"a\":1}"), new MockHttpServletResponse(), chain);
+        ServletRequest passedOn = chain.getRequest();
+        ServletInputStream input = passedOn.getInputStream();
+        List<String> calls = new ArrayList<>();
+
+        input.setReadListener(new ReadListener() {
+            @Override
+            public void onDataAvailable() {
+                calls.add("onDataAvailable " + input.isReady());
+            }
+
+            @Override
+            public void onAllDataRead() {
+                calls.add("onAllDataRead");
+            }
+
+            @Override
+            public void onError(Throwable t) {
+                calls.add("onError");
+            }
+        });
+
+        assertThat(calls).containsExactly("onDataAvailable true", "onAllDataRead");
+        assertThat(passedOn.getContentLengthLong()).isEqualTo(7);
+    }
+
+    /**
+     * Request as HTTP/2 sends it: a body without Content-Length and without Transfer-Encoding
+     */
+    private static MockHttpServletRequest withoutContentLength(String method, String body) {
+        MockHttpServletRequest request = new MockHttpServletRequest(method, "/orders") {
+            @Override
+            public int getContentLength() {
+                return -1;
+            }
+
+            @Override
+            public long getContentLengthLong() {
+                return -1;
+            }
+        };
+        request.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        request.setContent(body.getBytes(StandardCharsets.UTF_8));
+        return request;
+    }
+}
@@ -0,0 +1,181 @@
+package net.learning.ExceptionHandlerUtility.handler;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.core.json.JsonWriteFeature;
+import com.fasterxml.jackson.databind.MapperFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.PropertyNamingStrategies;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import net.learning.ExceptionHandlerUtility.model.ErrorResponse;
+import net.learning.ExceptionHandlerUtility.model.Errors;
+import net.learning.ExceptionHandlerUtility.utils.ErrorResponseWriter;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import javax.servlet.ServletOutputStream;
+import javax.servlet.WriteListener;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ErrorResponseTemplateTest {
+
+    private static final List<Errors> ERRORS = List.of(Errors.builder().errorMessage("Not allowed").build());
+    private static final ErrorResponseTemplate TEMPLATE = ErrorResponseTemplate.of(HttpStatus.FORBIDDEN, ERRORS);
+
+    @ParameterizedTest
+    @CsvSource(delimiter = '|', value = {
+            "''|true",
+            "application/json|true",
+            "*/*|true",
+            "application/*|true",
+            "text/html, application/json;q=0.8|true",
+            "application/json;q=0|false",
+            "application/json;q=0, */*;q=0|false",
+            "text/html|false",
+            "application/cbor|false",
+            "application/cbor, application/json;q=0.5|false",
+            "application/x-jackson-smile;q=0.2, application/json|true",
+            "not a media type|false" })
+    void writesOnlyWhenJsonIsPreferred(String accept, boolean written) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/orders");
+        if (!accept.isEmpty()) {
+            request.addHeader(HttpHeaders.ACCEPT, accept);
+        }
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        boolean result = TEMPLATE.write(new ServletWebRequest(request, response), HttpMethod.GET, "/orders",
+                "2024-01-01T00:00:00");
+
+        assertThat(result).isEqualTo(written);
+        assertThat(response.getContentAsByteArray().length > 0).isEqualTo(written);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = { "/orders", "/sa\"m\\ple/é中😀\n\u0001x", "" })
+    void writesTheSameBytesAsJackson(String requestUri) throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        ServletWebRequest webRequest = new ServletWebRequest(new MockHttpServletRequest("GET", "/orders"), response);
+
+        TEMPLATE.write(webRequest, HttpMethod.GET, requestUri, "2024-01-01T00:00:00");
+
+        ErrorResponse errorResponse = ErrorResponse.builder()
+                .method(HttpMethod.GET)
+                .requestUri(requestUri)
+                .statusCode(HttpStatus.FORBIDDEN.name())
+                .timestamp("2024-01-01T00:00:00")
+                .errors(ERRORS)
+                .build();
+        ByteArrayOutputStream streamed = new ByteArrayOutputStream();
+        new ErrorResponseWriter(new ObjectMapper()).write(errorResponse, streamed);
+        assertThat(response.getContentAsByteArray())
+                .isEqualTo(new ObjectMapper().writeValueAsBytes(errorResponse))
+                .isEqualTo(streamed.toByteArray());
+        assertThat(response.getStatus()).isEqualTo(HttpStatus.FORBIDDEN.value());
+    }
+
+    @ParameterizedTest
+    @MethodSource("mappers")
+    void writesWhatTheApplicationsMapperWritesOrFallsBack(ObjectMapper mapper) throws Exception {
+        ErrorResponseTemplate template = ErrorResponseTemplate.of(mapper, HttpStatus.FORBIDDEN, ERRORS);
+        for (HttpMethod method : HttpMethod.values()) {
+            for (String requestUri : List.of("/orders", "/sa\"m\\ple/é中😀\n\u0001x", "")) {
+                MockHttpServletResponse response = new MockHttpServletResponse();
+                ServletWebRequest webRequest = new ServletWebRequest(new MockHttpServletRequest(), response);
+
+                boolean written = template.write(webRequest, method, requestUri, "2024-01-01T00:00:00");
+
+                if (written) {
+                    assertThat(response.getContentAsByteArray()).isEqualTo(mapper.writeValueAsBytes(
+                            new ErrorResponse(method, requestUri, HttpStatus.FORBIDDEN.name(), "2024-01-01T00:00:00",
+                                    ERRORS)));
+                } else {
+                    assertThat(response.getContentAsByteArray()).isEmpty();
+                }
+            }
+        }
+    }
+
+    @Test
+    void snakeCaseMapperNamesTheFieldsInSnakeCase() {
+        ErrorResponseTemplate template = ErrorResponseTemplate.of(
+                new ObjectMapper().setPropertyNamingStrategy(PropertyNamingStrategies.SNAKE_CASE),
+                HttpStatus.FORBIDDEN, ERRORS);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        boolean written = template.write(new ServletWebRequest(new MockHttpServletRequest(), response),
+                HttpMethod.GET, "/orders", "2024-01-01T00:00:00");
+
+        assertThat(written).isTrue();
+        assertThat(new String(response.getContentAsByteArray(), StandardCharsets.UTF_8))
+                .contains("\"request_uri\":\"/orders\"", "\"status_code\":\"FORBIDDEN\"")
+                .doesNotContain("requestUri");
+    }
+
+    @Test
+    void mapperWithOtherEscapingDisablesTheTemplate() {
+        ErrorResponseTemplate template = ErrorResponseTemplate.of(
+                JsonMapper.builder().enable(JsonWriteFeature.ESCAPE_NON_ASCII).build(), HttpStatus.FORBIDDEN, ERRORS);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        assertThat(template.write(new ServletWebRequest(new MockHttpServletRequest(), response), HttpMethod.GET,
+                "/orders", "2024-01-01T00:00:00")).isFalse();
+        assertThat(response.getStatus()).isEqualTo(200);
+    }
+
+    @Test
+    void clientThatWentAwayDoesNotFailTheHandler() {
+        MockHttpServletResponse response = new MockHttpServletResponse() {
+            @Override
+            public ServletOutputStream getOutputStream() {
+                return new ServletOutputStream() {
+                    @Override
+                    public boolean isReady() {
+                        return true;
+                    }
+
+                    @Override
+                    public void setWriteListener(WriteListener writeListener) {
+                        // No-OP
+                    }
+
+                    @Override
+                    public void write(int b) throws IOException {
+                        throw new IOException("Broken pipe");
+                    }
+                };
+            }
+        };
+
+        boolean written = TEMPLATE.write(new ServletWebRequest(new MockHttpServletRequest(), response),
+                HttpMethod.GET, "/orders", "2024-01-01T00:00:00");
+
+        assertThat(written).isTrue();
+    }
+
+    static List<ObjectMapper> mappers() {
+        return List.of(
+                new ObjectMapper(),
+                new ObjectMapper().setPropertyNamingStrategy(PropertyNamingStrategies.SNAKE_CASE),
+                new ObjectMapper().setSerializationInclusion(JsonInclude.Include.NON_NULL),
+                new ObjectMapper().setSerializationInclusion(JsonInclude.Include.NON_EMPTY),
+                new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT),
+                new ObjectMapper().enable(SerializationFeature.WRITE_ENUMS_USING_INDEX),
+                new ObjectMapper().enable(SerializationFeature.WRAP_ROOT_VALUE),
+                JsonMapper.builder().enable(MapperFeature.SORT_PROPERTIES_ALPHABETICALLY).build(),
+                JsonMapper.builder().enable(JsonWriteFeature.ESCAPE_NON_ASCII).build());
+    }
+}
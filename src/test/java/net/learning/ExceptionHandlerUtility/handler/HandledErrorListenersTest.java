@@ -0,0 +1,44 @@
+package net.learning.ExceptionHandlerUtility.handler;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+
+class HandledErrorListenersTest {
+
+    @Test
+    void failingLookupIsTriedOnceAndNotifiesNoListener() {
+        AtomicInteger lookups = new AtomicInteger();
+        HandledErrorListeners listeners = HandledErrorListeners.lazy(() -> {
+            lookups.incrementAndGet();
+            throw new IllegalStateException("journal directory is not writable");
+        });
+
+        for (int i = 0; i < 3; i++) {
+            assertThatCode(() -> listeners.onErrorHandled(new IllegalArgumentException(), HttpStatus.BAD_REQUEST,
+                    "/orders", List.of(), 0)).doesNotThrowAnyException();
+        }
+
+        assertThat(lookups).hasValue(1);
+        assertThat(listeners.isEmpty()).isTrue();
+    }
+
+    @Test
+    void failingListenerDoesNotStopTheOthers() {
+        AtomicInteger notified = new AtomicInteger();
+        HandledErrorListeners listeners = HandledErrorListeners.lazy(() -> List.of(
+                (exception, status, uriTemplate, errors, latencyNanos) -> {
+                    throw new IllegalStateException();
+                },
+                (exception, status, uriTemplate, errors, latencyNanos) -> notified.incrementAndGet()));
+
+        listeners.onErrorHandled(new IllegalArgumentException(), HttpStatus.BAD_REQUEST, "/orders", List.of(), 0);
+
+        assertThat(notified).hasValue(1);
+    }
+}
@@ -0,0 +1,67 @@
+package net.learning.ExceptionHandlerUtility.journal;
+
+import net.learning.ExceptionHandlerUtility.exceptions.ValidationException;
+import net.learning.ExceptionHandlerUtility.model.Errors;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.http.HttpStatus;
+
+import java.nio.ByteBuffer;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ErrorJournalTest {
+
+    private static final int EVENTS = 5000;
+    private static final String PADDING = "x".repeat(400);
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void closeWritesEveryQueuedEventAcrossRotations() throws Exception {
+        ErrorJournal journal = new ErrorJournal(directory, 64 * 1024, 1000, EVENTS);
+        ValidationException exception = new ValidationException(List.of());
+        for (int i = 0; i < EVENTS; i++) {
+            journal.onErrorHandled(exception, HttpStatus.BAD_REQUEST, "/orders/" + i,
+                    List.of(Errors.builder().errorMessage("message " + i + PADDING).build()), i);
+        }
+        // let the writer get busy, so close() lands in the middle of the drain and its rotations
+        Thread.sleep(20);
+
+        journal.close();
+
+        List<JournalRecord> records = new ErrorJournalReader(directory).read(record -> true, Integer.MAX_VALUE);
+        assertThat(journal.getDropped()).isZero();
+        assertThat(ErrorJournal.segments(directory)).hasSizeGreaterThan(1);
+        assertThat(records).hasSize(EVENTS);
+        for (int i = 0; i < EVENTS; i++) {
+            assertThat(records.get(i).getUriTemplate()).isEqualTo("/orders/" + i);
+            assertThat(records.get(i).getMessage()).isEqualTo("message " + i + PADDING);
+            assertThat(records.get(i).getLatencyNanos()).isEqualTo(i);
+        }
+    }
+
+    @Test
+    void recordBecomesVisibleOnlyWithItsLength() {
+        ByteBuffer buffer = ByteBuffer.allocate(1024);
+        byte[] uriTemplate = JournalRecord.encode("/orders/{id}");
+        byte[] message = JournalRecord.encode("order not found");
+
+        JournalRecord.write(buffer, 1L, 404, 2L, null, uriTemplate, message);
+        int size = JournalRecord.size(null, uriTemplate, message);
+        buffer.putInt(0, 0);
+
+        assertThat(size % Integer.BYTES).isZero();
+        assertThat(buffer.position()).isEqualTo(size);
+        assertThat(JournalRecord.read(ByteBuffer.wrap(buffer.array()))).isNull();
+        buffer.putInt(0, size);
+        JournalRecord record = JournalRecord.read(ByteBuffer.wrap(buffer.array()));
+        assertThat(record.getStatus()).isEqualTo(404);
+        assertThat(record.getUriTemplate()).isEqualTo("/orders/{id}");
+        assertThat(record.getMessage()).isEqualTo("order not found");
+        assertThat(record.getException()).isNull();
+    }
+}
@@ -0,0 +1,42 @@
+package net.learning.ExceptionHandlerUtility.model;
+
+import net.learning.ExceptionHandlerUtility.exceptions.TimeOutException;
+import net.learning.ExceptionHandlerUtility.exceptions.ValidationException;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class DataInputsTest {
+
+    private static final List<Errors> ERRORS = List.of(Errors.builder().errorMessage("invalid").build());
+
+    @Test
+    void causeCanBeInitializedOnce() {
+        IOException cause = new IOException("disk full");
+        ValidationException exception = new ValidationException(ERRORS);
+
+        assertThat(exception.initCause(cause)).isSameAs(exception);
+        assertThat(exception.getCause()).isSameAs(cause);
+        assertThatThrownBy(() -> exception.initCause(new IOException())).isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void causeFromConstructorCanNotBeOverwritten() {
+        IOException cause = new IOException("disk full");
+        ValidationException exception = new ValidationException(ERRORS, cause);
+
+        assertThat(exception.getCause()).isSameAs(cause);
+        assertThatThrownBy(() -> exception.initCause(new IOException())).isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void sharedInstancesKeepNoCause() {
+        assertThat(TimeOutException.shared().getCause()).isNull();
+        assertThatThrownBy(() -> TimeOutException.shared().initCause(new IOException()))
+                .isInstanceOf(IllegalStateException.class);
+    }
+}
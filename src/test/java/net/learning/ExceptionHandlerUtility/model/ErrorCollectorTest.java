@@ -0,0 +1,115 @@
+package net.learning.ExceptionHandlerUtility.model;
+
+import net.learning.ExceptionHandlerUtility.exceptions.DataNotFoundException;
+import net.learning.ExceptionHandlerUtility.exceptions.ValidationException;
+import net.learning.ExceptionHandlerUtility.handler.GlobalExceptionHandler;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.assertThatCode;
+
+class ErrorCollectorTest {
+
+    @Test
+    void keepsErrorsUpToTheCapAndCountsTheRest() {
+        ErrorCollector collector = new ErrorCollector(10, 2);
+
+        assertThat(collector.add("a")).isTrue();
+        assertThat(collector.add(1, "b")).isTrue();
+        assertThat(collector.isFull()).isTrue();
+        assertThat(collector.add("c")).isFalse();
+
+        assertThat(collector.getErrors()).containsExactly(new Errors("a"), new ItemErrors(1, "b"));
+        assertThat(collector.isTruncated()).isTrue();
+        assertThat(collector.getTotalErrors()).isEqualTo(3);
+    }
+
+    @Test
+    void skippedErrorsAreCountedAsTruncated() {
+        ErrorCollector collector = new ErrorCollector();
+        collector.add("a");
+
+        collector.skipped(0);
+        assertThat(collector.isTruncated()).isFalse();
+        collector.skipped(4);
+
+        assertThat(collector.isTruncated()).isTrue();
+        assertThat(collector.getTotalErrors()).isEqualTo(5);
+    }
+
+    @Test
+    void exceptionCarriesTheSummary() {
+        ErrorCollector collector = new ErrorCollector(3, 2);
+        collector.add("a");
+        collector.add("b");
+        collector.add("c");
+
+        ValidationException validationException = collector.toValidationException();
+        DataNotFoundException dataNotFoundException = collector.toDataNotFoundException();
+
+        assertThat(validationException.getErrorMessage()).hasSize(2);
+        assertThat(validationException.getTruncated()).isTrue();
+        assertThat(validationException.getTotalErrors()).isEqualTo(3);
+        assertThat(dataNotFoundException.getTruncated()).isTrue();
+        assertThat(dataNotFoundException.getTotalErrors()).isEqualTo(3);
+    }
+
+    @Test
+    void completeCollectorLeavesTheSummaryOut() {
+        ErrorCollector collector = new ErrorCollector();
+        collector.add("a");
+
+        ValidationException exception = collector.toValidationException();
+
+        assertThat(exception.getTruncated()).isNull();
+        assertThat(exception.getTotalErrors()).isNull();
+    }
+
+    @Test
+    void exceptionKeepsTheErrorsOfTheMomentItWasCreated() {
+        ErrorCollector collector = new ErrorCollector();
+        collector.add("a");
+
+        ValidationException exception = collector.toValidationException();
+        collector.add("b");
+
+        assertThat(exception.getErrorMessage()).containsExactly(new Errors("a"));
+        assertThatThrownBy(() -> exception.getErrorMessage().add(new Errors("c")))
+                .isInstanceOf(UnsupportedOperationException.class);
+    }
+
+    @Test
+    void throwsOnlyWhenErrorsWereReported() {
+        ErrorCollector collector = new ErrorCollector(0, 1);
+        assertThatCode(collector::throwIfAny).doesNotThrowAnyException();
+
+        collector.skipped(2);
+
+        assertThatThrownBy(collector::throwIfAny).isInstanceOf(ValidationException.class);
+    }
+
+    @Test
+    void rejectsANonPositiveCap() {
+        assertThatThrownBy(() -> new ErrorCollector(1, 0)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void handlerRendersTheSummary() {
+        ErrorCollector collector = new ErrorCollector(3, 2);
+        for (int i = 0; i < 3; i++) {
+            collector.add(i, "quantity must be positive");
+        }
+
+        ResponseEntity<ErrorResponse> response = new GlobalExceptionHandler().handleValidationException(
+                collector.toValidationException(),
+                new ServletWebRequest(new MockHttpServletRequest("POST", "/orders/import")));
+
+        assertThat(response.getBody().getErrors()).hasSize(2);
+        assertThat(response.getBody().getTruncated()).isTrue();
+        assertThat(response.getBody().getTotalErrors()).isEqualTo(3);
+    }
+}
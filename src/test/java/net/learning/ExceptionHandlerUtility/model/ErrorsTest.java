@@ -0,0 +1,52 @@
+package net.learning.ExceptionHandlerUtility.model;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.Arrays;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ErrorsTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    void cannotBeChangedOnceCreated() {
+        for (Class<?> type : Arrays.asList(Errors.class, ItemErrors.class)) {
+            for (Field field : type.getDeclaredFields()) {
+                assertThat(Modifier.isFinal(field.getModifiers())).as(field.toString()).isTrue();
+            }
+            for (Method method : type.getMethods()) {
+                assertThat(method.getName()).as(type.getName()).doesNotStartWith("set");
+            }
+        }
+    }
+
+    @Test
+    void builderAndConstructorAreEqual() {
+        Errors built = Errors.builder().errorMessage("name must not be null").build();
+
+        assertThat(built).isEqualTo(new Errors("name must not be null"))
+                .hasSameHashCodeAs(new Errors("name must not be null"))
+                .isNotEqualTo(new Errors("name must not be blank"));
+    }
+
+    @Test
+    void isReadThroughTheConstructor() throws Exception {
+        String json = "{\"errorMessage\":\"name must not be null\"}";
+
+        Errors errors = objectMapper.readValue(json, Errors.class);
+
+        assertThat(errors).isEqualTo(new Errors("name must not be null"));
+        assertThat(objectMapper.writeValueAsString(errors)).isEqualTo(json);
+    }
+
+    @Test
+    void missingMessageIsReadAsNull() throws Exception {
+        assertThat(objectMapper.readValue("{}", Errors.class).getErrorMessage()).isNull();
+    }
+}
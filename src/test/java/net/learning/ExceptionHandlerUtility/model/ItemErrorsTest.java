@@ -0,0 +1,33 @@
+package net.learning.ExceptionHandlerUtility.model;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ItemErrorsTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    void isRenderedWithTheItemIndex() throws Exception {
+        assertThat(objectMapper.writeValueAsString(new ItemErrors(3, "name must not be null")))
+                .isEqualTo("{\"itemIndex\":3,\"errorMessage\":\"name must not be null\"}");
+    }
+
+    @Test
+    void isReadBack() throws Exception {
+        ItemErrors itemErrors = objectMapper.readValue(
+                "{\"itemIndex\":3,\"errorMessage\":\"name must not be null\"}", ItemErrors.class);
+
+        assertThat(itemErrors).isEqualTo(new ItemErrors(3, "name must not be null"));
+    }
+
+    @Test
+    void equalsTakesTheIndexIntoAccount() {
+        assertThat(new ItemErrors(3, "invalid")).isEqualTo(new ItemErrors(3, "invalid"))
+                .hasSameHashCodeAs(new ItemErrors(3, "invalid"))
+                .isNotEqualTo(new ItemErrors(4, "invalid"))
+                .isNotEqualTo(new Errors("invalid"));
+    }
+}
@@ -0,0 +1,78 @@
+package net.learning.ExceptionHandlerUtility.reactive;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import net.learning.ExceptionHandlerUtility.handler.HandledErrorListeners;
+import net.learning.ExceptionHandlerUtility.mapping.ErrorMappingRegistry;
+import net.learning.ExceptionHandlerUtility.model.ErrorCollector;
+import net.learning.ExceptionHandlerUtility.model.ErrorResponse;
+import net.learning.ExceptionHandlerUtility.utils.ErrorPayloadLimits;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.validation.BeanPropertyBindingResult;
+import org.springframework.validation.FieldError;
+import org.springframework.web.bind.support.WebExchangeBindException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ReactiveGlobalExceptionHandlerTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final ReactiveGlobalExceptionHandler handler = new ReactiveGlobalExceptionHandler(objectMapper,
+            new ErrorMappingRegistry(), HandledErrorListeners.NONE, new ErrorPayloadLimits(2, 100));
+
+    @Test
+    void cappedBindErrorsReportTheTruncation() throws Exception {
+        ErrorResponse errorResponse = handle(bindException("customer", "quantity", "price"));
+
+        assertThat(errorResponse.getErrors()).hasSize(2);
+        assertThat(errorResponse.getTruncated()).isTrue();
+        assertThat(errorResponse.getTotalErrors()).isEqualTo(3);
+    }
+
+    @Test
+    void bindErrorsWithinTheLimitsLeaveTheSummaryOut() throws Exception {
+        ErrorResponse errorResponse = handle(bindException("customer", "quantity"));
+
+        assertThat(errorResponse.getErrors()).hasSize(2);
+        assertThat(errorResponse.getTruncated()).isNull();
+        assertThat(errorResponse.getTotalErrors()).isNull();
+    }
+
+    @Test
+    void collectedErrorsReportTheTruncation() throws Exception {
+        ErrorCollector collector = new ErrorCollector(2, 2);
+        for (int i = 0; i < 5; i++) {
+            collector.add(i, "quantity must be positive");
+        }
+
+        ErrorResponse errorResponse = handle(collector.toValidationException());
+
+        assertThat(errorResponse.getErrors()).hasSize(2);
+        assertThat(errorResponse.getTruncated()).isTrue();
+        assertThat(errorResponse.getTotalErrors()).isEqualTo(5);
+    }
+
+    private ErrorResponse handle(Throwable throwable) throws Exception {
+        MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.post("/orders"));
+
+        handler.handle(exchange, throwable).block();
+
+        assertThat(exchange.getResponse().getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+        // item errors are read back as plain errors
+        return objectMapper.readerFor(ErrorResponse.class).without(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+                .readValue(exchange.getResponse().getBodyAsString().block());
+    }
+
+    private static WebExchangeBindException bindException(String... fields) throws NoSuchMethodException {
+        BeanPropertyBindingResult bindingResult = new BeanPropertyBindingResult(new Object(), "order");
+        for (String field : fields) {
+            bindingResult.addError(new FieldError("order", field, field + " is required"));
+        }
+        return new WebExchangeBindException(
+                new MethodParameter(Object.class.getMethod("equals", Object.class), 0), bindingResult);
+    }
+}
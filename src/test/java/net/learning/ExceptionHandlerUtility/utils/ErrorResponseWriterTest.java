@@ -0,0 +1,109 @@
+package net.learning.ExceptionHandlerUtility.utils;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.MapperFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.PropertyNamingStrategies;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import net.learning.ExceptionHandlerUtility.model.ErrorResponse;
+import net.learning.ExceptionHandlerUtility.model.Errors;
+import net.learning.ExceptionHandlerUtility.model.ItemErrors;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.http.HttpMethod;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ErrorResponseWriterTest {
+
+    static Stream<Arguments> mappersAndResponses() {
+        List<Arguments> arguments = new ArrayList<>();
+        for (ObjectMapper mapper : mappers()) {
+            for (ErrorResponse response : responses()) {
+                arguments.add(Arguments.of(mapper, response));
+            }
+        }
+        return arguments.stream();
+    }
+
+    @ParameterizedTest
+    @MethodSource("mappersAndResponses")
+    void writesTheSameBytesAsTheMapper(ObjectMapper mapper, ErrorResponse response) throws IOException {
+        ByteArrayOutputStream written = new ByteArrayOutputStream();
+
+        new ErrorResponseWriter(mapper).write(response, written);
+
+        assertThat(written.toByteArray()).isEqualTo(mapper.writeValueAsBytes(response));
+    }
+
+    private static List<ObjectMapper> mappers() {
+        SimpleModule errorsModule = new SimpleModule().addSerializer(Errors.class, new JsonSerializer<Errors>() {
+            @Override
+            public void serialize(Errors value, JsonGenerator generator, SerializerProvider provider)
+                    throws IOException {
+                generator.writeString(value.getErrorMessage());
+            }
+        });
+        SimpleModule methodModule = new SimpleModule().addSerializer(HttpMethod.class,
+                new JsonSerializer<HttpMethod>() {
+                    @Override
+                    public void serialize(HttpMethod value, JsonGenerator generator, SerializerProvider provider)
+                            throws IOException {
+                        generator.writeString(value.name().toLowerCase());
+                    }
+                });
+        SimpleModule itemErrorsModule = new SimpleModule().addSerializer(ItemErrors.class,
+                new JsonSerializer<ItemErrors>() {
+                    @Override
+                    public void serialize(ItemErrors value, JsonGenerator generator, SerializerProvider provider)
+                            throws IOException {
+                        generator.writeString(value.getItemIndex() + ": " + value.getErrorMessage());
+                    }
+                });
+        return Arrays.asList(
+                new ObjectMapper(),
+                new ObjectMapper().setSerializationInclusion(JsonInclude.Include.NON_NULL),
+                new ObjectMapper().setSerializationInclusion(JsonInclude.Include.NON_EMPTY),
+                new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT),
+                new ObjectMapper().setPropertyNamingStrategy(PropertyNamingStrategies.SNAKE_CASE),
+                new ObjectMapper().enable(SerializationFeature.WRITE_ENUMS_USING_INDEX),
+                JsonMapper.builder().enable(MapperFeature.SORT_PROPERTIES_ALPHABETICALLY).build(),
+                new ObjectMapper().registerModule(errorsModule),
+                new ObjectMapper().registerModule(methodModule),
+                new ObjectMapper().registerModule(itemErrorsModule));
+    }
+
+    private static List<ErrorResponse> responses() {
+        List<Errors> errors = Arrays.asList(
+                Errors.builder().errorMessage("Field \"name\" is required").build(),
+                new ItemErrors(3, "Item price must be positive"),
+                Errors.builder().build(),
+                null);
+        return Arrays.asList(
+                new ErrorResponse(HttpMethod.POST, "/orders/é中😀", "BAD_REQUEST", "2024-01-01T00:00:00", errors),
+                ErrorResponse.builder()
+                        .method(HttpMethod.PUT)
+                        .requestUri("/orders")
+                        .statusCode("BAD_REQUEST")
+                        .timestamp("2024-01-01T00:00:00")
+                        .errors(List.of(new ItemErrors(0, "Quantity is required")))
+                        .truncated(true)
+                        .totalErrors(250)
+                        .build(),
+                ErrorResponse.builder().requestUri("").errors(List.of()).build(),
+                new ErrorResponse());
+    }
+}
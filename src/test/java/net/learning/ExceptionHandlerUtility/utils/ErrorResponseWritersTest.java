@@ -0,0 +1,46 @@
+package net.learning.ExceptionHandlerUtility.utils;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.springframework.http.MediaType;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ErrorResponseWritersTest {
+
+    private final ErrorResponseWriters writers = ErrorResponseWriters.of(new ObjectMapper());
+
+    @ParameterizedTest
+    @CsvSource(delimiter = '|', value = {
+            "''|application/json",
+            "*/*|application/json",
+            "application/json|application/json",
+            "application/cbor|application/cbor",
+            "application/x-jackson-smile|application/x-jackson-smile",
+            "application/cbor, application/json;q=0.9|application/cbor",
+            "application/json, application/cbor;q=0.9|application/json",
+            "application/cbor;q=0.5, application/x-jackson-smile|application/x-jackson-smile",
+            "application/json;q=0.1, application/x-jackson-smile;q=0.2|application/x-jackson-smile",
+            "text/html|application/json",
+            "text/html, application/cbor;q=0.1|application/cbor" })
+    void selectsThePreferredAcceptedEncoding(String accept, String expected) {
+        List<MediaType> accepted = accept.isEmpty() ? List.of() : MediaType.parseMediaTypes(accept);
+
+        ErrorResponseWriters.Format format = writers.select(accepted);
+
+        assertThat(format.getMediaType()).isEqualTo(MediaType.parseMediaType(expected));
+    }
+
+    @Test
+    void jsonOnlyIgnoresTheAcceptHeader() {
+        ErrorResponseWriters jsonOnly = ErrorResponseWriters.jsonOnly(new ErrorResponseWriter(new ObjectMapper()));
+
+        ErrorResponseWriters.Format format = jsonOnly.select(MediaType.parseMediaTypes("application/cbor"));
+
+        assertThat(format.getMediaType()).isEqualTo(MediaType.APPLICATION_JSON);
+    }
+}
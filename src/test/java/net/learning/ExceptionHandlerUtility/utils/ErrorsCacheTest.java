@@ -0,0 +1,137 @@
+package net.learning.ExceptionHandlerUtility.utils;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import net.learning.ExceptionHandlerUtility.model.Errors;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ErrorsCacheTest {
+
+    private static final String NAME = message("name must not be null");
+    private static final String EMAIL = message("email must be valid");
+    private static final String AGE = message("age must be positive");
+
+    @Test
+    void hitReturnsTheCachedInstance() throws Exception {
+        ErrorsCache cache = new ErrorsCache(new ObjectMapper());
+
+        Errors first = cache.parse(NAME);
+
+        assertThat(first).isEqualTo(new Errors("name must not be null"));
+        assertThat(cache.parse(NAME)).isSameAs(first);
+    }
+
+    @Test
+    void countsHitsAndMisses() throws Exception {
+        ErrorsCache cache = new ErrorsCache(new ObjectMapper());
+        assertThat(cache.hitRate()).isZero();
+
+        cache.parse(NAME);
+        cache.parse(NAME);
+        cache.parse(NAME);
+        cache.parse(EMAIL);
+
+        assertThat(cache.getHits()).isEqualTo(2);
+        assertThat(cache.getMisses()).isEqualTo(2);
+        assertThat(cache.hitRate()).isEqualTo(0.5);
+        assertThat(cache.size()).isEqualTo(2);
+    }
+
+    @Test
+    void invalidMessageIsNotCached() {
+        ErrorsCache cache = new ErrorsCache(new ObjectMapper());
+
+        assertThatThrownBy(() -> cache.parse("name must not be null")).isInstanceOf(JsonProcessingException.class);
+
+        assertThat(cache.size()).isZero();
+        assertThat(cache.getMisses()).isEqualTo(1);
+    }
+
+    @Test
+    void entryUsedSinceTheLastSweepSurvivesEviction() throws Exception {
+        ErrorsCache cache = new ErrorsCache(new ObjectMapper(), 2);
+        Errors name = cache.parse(NAME);
+        cache.parse(EMAIL);
+        cache.parse(NAME);
+
+        cache.parse(AGE);
+
+        assertThat(cache.size()).isEqualTo(2);
+        assertThat(cache.getEvictions()).isEqualTo(1);
+        assertThat(cache.parse(NAME)).isSameAs(name);
+    }
+
+    @Test
+    void evictionMakesRoomWhenEveryEntryWasUsed() throws Exception {
+        ErrorsCache cache = new ErrorsCache(new ObjectMapper(), 2);
+        cache.parse(NAME);
+        cache.parse(EMAIL);
+        cache.parse(NAME);
+        cache.parse(EMAIL);
+
+        cache.parse(AGE);
+
+        assertThat(cache.size()).isEqualTo(2);
+        assertThat(cache.getEvictions()).isEqualTo(1);
+    }
+
+    @Test
+    void sizeStaysAtTheMaximum() throws Exception {
+        ErrorsCache cache = new ErrorsCache(new ObjectMapper(), 8);
+
+        for (int i = 0; i < 100; i++) {
+            cache.parse(message("message " + i));
+        }
+
+        assertThat(cache.size()).isEqualTo(cache.getMaxSize());
+        assertThat(cache.getEvictions()).isEqualTo(92);
+    }
+
+    @Test
+    void concurrentParsesOfTheSameMessageCacheOneEntry() throws Exception {
+        ErrorsCache cache = new ErrorsCache(new ObjectMapper());
+        int threads = 8;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            CountDownLatch start = new CountDownLatch(1);
+            List<Future<Errors>> results = new ArrayList<>();
+            for (int i = 0; i < threads; i++) {
+                results.add(executor.submit(() -> {
+                    start.await();
+                    return cache.parse(NAME);
+                }));
+            }
+            start.countDown();
+
+            for (Future<Errors> result : results) {
+                assertThat(result.get()).isEqualTo(new Errors("name must not be null"));
+            }
+            assertThat(cache.size()).isEqualTo(1);
+            assertThat(cache.getHits() + cache.getMisses()).isEqualTo(threads);
+            assertThat(cache.getEvictions()).isZero();
+            Errors cached = cache.parse(NAME);
+            assertThat(cache.parse(NAME)).isSameAs(cached);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void maxSizeMustBePositive() {
+        assertThatThrownBy(() -> new ErrorsCache(new ObjectMapper(), 0)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static String message(String errorMessage) {
+        return "{\"errorMessage\":\"" + errorMessage + "\"}";
+    }
+}
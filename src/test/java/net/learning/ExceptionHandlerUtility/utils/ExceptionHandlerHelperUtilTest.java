@@ -0,0 +1,57 @@
+package net.learning.ExceptionHandlerUtility.utils;
+
+import net.learning.ExceptionHandlerUtility.model.ErrorCollector;
+import net.learning.ExceptionHandlerUtility.model.Errors;
+import org.junit.jupiter.api.Test;
+import org.springframework.validation.ObjectError;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ExceptionHandlerHelperUtilTest {
+
+    @Test
+    void dropsDuplicatesWithoutTruncatingWhenTheDistinctErrorsFit() {
+        List<ObjectError> errors = objectErrors("a", "b", "a", "b", "c");
+
+        ErrorCollector collector = ExceptionHandlerHelperUtil.collectValidationErrors(errors,
+                new ErrorPayloadLimits(3, 100));
+
+        assertThat(collector.getErrors()).extracting(Errors::getErrorMessage).containsExactly("a", "b", "c");
+        assertThat(collector.isTruncated()).isFalse();
+    }
+
+    @Test
+    void countsDuplicatesOnBothSidesOfTheCap() {
+        List<ObjectError> errors = objectErrors("a", "a", "b", "c", "c", "d", "a");
+
+        ErrorCollector collector = ExceptionHandlerHelperUtil.collectValidationErrors(errors,
+                new ErrorPayloadLimits(2, 100));
+
+        assertThat(collector.getErrors()).extracting(Errors::getErrorMessage).containsExactly("a", "b");
+        assertThat(collector.isTruncated()).isTrue();
+        assertThat(collector.getTotalErrors()).isEqualTo(errors.size());
+    }
+
+    @Test
+    void appliesTheGivenLimitsInsteadOfTheShared() {
+        ErrorPayloadLimits shared = ExceptionHandlerHelperUtil.getErrorPayloadLimits();
+
+        ErrorCollector collector = ExceptionHandlerHelperUtil.collectValidationErrors(
+                objectErrors("a", "b", "c"), new ErrorPayloadLimits(1, 100));
+
+        assertThat(collector.getErrors()).hasSize(1);
+        assertThat(collector.getTotalErrors()).isEqualTo(3);
+        assertThat(ExceptionHandlerHelperUtil.getErrorPayloadLimits()).isSameAs(shared);
+    }
+
+    private static List<ObjectError> objectErrors(String... messages) {
+        List<ObjectError> errors = new ArrayList<>();
+        for (String message : messages) {
+            errors.add(new ObjectError("request", message));
+        }
+        return errors;
+    }
+}